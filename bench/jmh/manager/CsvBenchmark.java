@@ -0,0 +1,101 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CsvBenchmark - whole-file operations on a roster: loadFromCSV,
+ * loadFromCSVMapped and loadFromCSVParallel (1, 2 or 4 threads) into an
+ * empty list, saveToCSV and saveReport, and the binary snapshot's
+ * loadSnapshot next to the bare read of its bytes. With teams=1000000 the
+ * loads are the 1M-row import and cold start. Files go to a temporary
+ * folder that is removed after the trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CsvBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class TempFiles {
+        Path dir, csv, saved, report, snapshot;
+
+        @Setup(Level.Trial)
+        public void write(Roster roster) throws IOException {
+            dir = Files.createTempDirectory("hackathon-jmh");
+            csv = dir.resolve("teams.csv");
+            saved = dir.resolve("saved.csv");
+            report = dir.resolve("report.txt");
+            snapshot = dir.resolve("teams.bin");
+            roster.list.saveToCSV(csv.toString());
+            roster.list.saveSnapshot(snapshot.toString());
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() throws IOException {
+            for (Path p : new Path[]{csv, saved, report, snapshot}) Files.deleteIfExists(p);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<String> loadFromCSV(TempFiles files) {
+        return new TeamList().loadFromCSV(files.csv.toString());
+    }
+
+    @Benchmark
+    public ArrayList<String> loadFromCSVMapped(TempFiles files) {
+        return new TeamList().loadFromCSVMapped(files.csv.toString());
+    }
+
+    @State(Scope.Benchmark)
+    public static class Workers {
+        @Param({"1", "2", "4"})
+        public int threads;
+    }
+
+    @Benchmark
+    public ArrayList<String> loadFromCSVParallel(TempFiles files, Workers workers) {
+        return new TeamList().loadFromCSVParallel(files.csv.toString(), workers.threads);
+    }
+
+    @Benchmark
+    public ArrayList<String> loadSnapshot(TempFiles files) {
+        return new TeamList().loadSnapshot(files.snapshot.toString());
+    }
+
+    // the floor under loadSnapshot
+    @Benchmark
+    public byte[] readSnapshotBytes(TempFiles files) throws IOException {
+        return Files.readAllBytes(files.snapshot);
+    }
+
+    @Benchmark
+    public void saveToCSV(Roster roster, TempFiles files) {
+        roster.list.saveToCSV(files.saved.toString());
+    }
+
+    @Benchmark
+    public void saveReport(Roster roster, TempFiles files) {
+        roster.list.saveReport(files.report.toString());
+    }
+}
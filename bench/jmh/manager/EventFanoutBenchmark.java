@@ -0,0 +1,230 @@
+package manager;
+
+import manager.server.LeaderboardServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventFanoutBenchmark - load test for the /events stream: with hundreds or
+ * thousands of local SSE subscribers open, the time from a score edit to its
+ * rank event reaching every one of them. Sample mode, so JMH reports the
+ * p50/p99 of that delay.
+ *
+ * Each call edits random teams until one edit moves a rank (an edit that
+ * leaves the ranks alone sends no event), then waits for that event on every
+ * stream. The subscribers are non-blocking sockets read by one selector
+ * thread, so the client side costs little next to the server. The OS
+ * open-file limit must allow two descriptors per subscriber.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventFanoutBenchmark {
+
+    private static final int TEAMS = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class Stream {
+        @Param({"100", "2000"})
+        public int subscribers;
+
+        TeamList list;
+        LeaderboardServer server;
+        Subscribers clients;
+        Thread reader;
+        Random rnd;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            list = Roster.build(TEAMS);
+            rnd = new Random(42);
+            clients = new Subscribers(subscribers);
+            // registered before the server's listener, so the event is awaited before it can arrive
+            list.addRankListener(new TeamList.RankListener() {
+                @Override public void rankChanged(RankChange c) { if (c.isMove()) clients.expect(c.getVersion()); }
+                @Override public void rosterChanged(long version) {}
+            });
+            server = new LeaderboardServer(list, 0);
+            server.start();
+            clients.connect(server.getPort());
+            reader = new Thread(clients::read, "subscribers");
+            reader.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            reader.interrupt();
+            reader.join();
+            server.stop();
+            clients.selector.close();
+        }
+    }
+
+    @Benchmark
+    public long editToEverySubscriber(Stream s) throws InterruptedException {
+        Awaited before = s.clients.awaited;
+        while (s.clients.awaited == before) {
+            Team t = s.list.getTeamByID(1 + s.rnd.nextInt(TEAMS));
+            int[] scores = t.getScoreArray();
+            scores[0] = scores[0] == 5 ? 4 : scores[0] + 1;
+            t.setScores(scores);
+        }
+        Awaited event = s.clients.awaited;
+        if (!event.delivered.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException(event.delivered.getCount() + " subscribers missed version " + event.version);
+        }
+        return event.version;
+    }
+
+    // the rank event being waited for, counted down once per subscriber that has it
+    private static final class Awaited {
+        final long version;
+        final CountDownLatch delivered;
+
+        Awaited(long version, int subscribers) {
+            this.version = version;
+            this.delivered = new CountDownLatch(subscribers);
+        }
+    }
+
+    // the client side: one selector over every subscriber's socket
+    private static final class Subscribers {
+        volatile Awaited awaited = new Awaited(-1, 0);
+
+        private final int count;
+        private final Selector selector;
+        private final StringBuilder[] raw;      // bytes as received, still chunk-encoded
+        private final StringBuilder[] pending;  // decoded event text not yet scanned
+        private final boolean[] body;           // past the response headers
+        private final ByteBuffer buffer = ByteBuffer.allocate(64 << 10);
+
+        Subscribers(int count) throws IOException {
+            this.count = count;
+            this.selector = Selector.open();
+            this.raw = new StringBuilder[count];
+            this.pending = new StringBuilder[count];
+            this.body = new boolean[count];
+        }
+
+        void expect(long version) {
+            awaited = new Awaited(version, count);
+        }
+
+        // opens every stream and waits until each has had its first reset
+        void connect(int port) throws IOException {
+            byte[] request = ("GET /events HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < count; i++) {
+                SocketChannel ch = SocketChannel.open(new InetSocketAddress("localhost", port));
+                ch.write(ByteBuffer.wrap(request));
+                ch.configureBlocking(false);
+                ch.register(selector, SelectionKey.OP_READ, i);
+                raw[i] = new StringBuilder();
+                pending[i] = new StringBuilder();
+            }
+            int ready = 0;
+            boolean[] seen = new boolean[count];
+            while (ready < count) {
+                selector.select(1000);
+                for (SelectionKey key : selector.selectedKeys()) {
+                    int i = (Integer) key.attachment();
+                    fill(key, i);
+                    if (!seen[i] && pending[i].indexOf("event: reset") >= 0) {
+                        seen[i] = true;
+                        ready++;
+                        pending[i].setLength(0);
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        }
+
+        void read() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    selector.select(100);
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        int i = (Integer) key.attachment();
+                        fill(key, i);
+                        scan(pending[i]);
+                    }
+                    selector.selectedKeys().clear();
+                }
+            } catch (IOException e) {
+                System.out.println("Subscriber read failed: " + e.getMessage());
+            }
+        }
+
+        private void fill(SelectionKey key, int i) throws IOException {
+            SocketChannel ch = (SocketChannel) key.channel();
+            buffer.clear();
+            int n = ch.read(buffer);
+            if (n < 0) {
+                key.cancel();
+                ch.close();
+                return;
+            }
+            raw[i].append(new String(buffer.array(), 0, n, StandardCharsets.ISO_8859_1));
+            decode(i);
+        }
+
+        // moves whole chunks of the chunked response body from raw to pending
+        private void decode(int i) {
+            StringBuilder in = raw[i];
+            int p = 0;
+            if (!body[i]) {
+                int end = in.indexOf("\r\n\r\n");
+                if (end < 0) return;
+                body[i] = true;
+                p = end + 4;
+            }
+            while (true) {
+                int eol = in.indexOf("\r\n", p);
+                if (eol < 0) break;
+                int size = Integer.parseInt(in.substring(p, eol).trim(), 16);
+                if (in.length() < eol + 2 + size + 2) break;
+                pending[i].append(in, eol + 2, eol + 2 + size);
+                p = eol + 2 + size + 2;
+            }
+            in.delete(0, p);
+        }
+
+        // takes out every complete rank event and counts the awaited one
+        private void scan(StringBuilder text) {
+            final String marker = "event: rank\ndata: {\"version\":";
+            int from = 0, at;
+            while ((at = text.indexOf(marker, from)) >= 0) {
+                int end = text.indexOf(",", at + marker.length());
+                if (end < 0) break;
+                Awaited a = awaited;
+                if (Long.parseLong(text.substring(at + marker.length(), end)) == a.version) a.delivered.countDown();
+                from = end;
+            }
+            text.delete(0, from);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JudgeSchedulerBenchmark - JudgeScheduler.assign giving every team of the
+ * roster K judges from a fresh panel. JudgeSchedulerCheck covers the spread
+ * of loads and the university conflicts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JudgeSchedulerBenchmark {
+
+    private static final int K = 3;
+
+    /** A panel with no teams yet, made again before every call. */
+    @State(Scope.Thread)
+    public static class Panel {
+        @Param({"10", "100", "1000"})
+        public int judges;
+
+        List<Judge> panel;
+
+        @Setup(Level.Invocation)
+        public void build() {
+            panel = new ArrayList<>(judges);
+            for (int i = 0; i < judges; i++) {
+                String uni = Roster.UNIVERSITIES[i % Roster.UNIVERSITIES.length];
+                panel.add(new Judge(1000 + i, new Name("Judge", "" + i), uni));
+            }
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Team> assign(Roster roster, Panel panel) {
+        return JudgeScheduler.assign(roster.list.getAllTeams(), panel.panel, K);
+    }
+}
@@ -0,0 +1,79 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LeaderboardBenchmark - the category leaderboard from the old filter + sort
+ * (compare TeamListBenchmark.getLeaderboardByCategory, the index walk that
+ * replaced it), top-K and rank queries, and a score edit that moves a team
+ * within the indexes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LeaderboardBenchmark {
+
+    private static final String CATEGORY = "Cybersecurity";
+
+    /** Random new scores, walked round-robin per thread. */
+    @State(Scope.Thread)
+    public static class Edits {
+        int[][] scores;
+        Random rnd;
+        int next;
+
+        @Setup(Level.Trial)
+        public void build(Roster roster) {
+            Random r = new Random(3);
+            scores = new int[1024][];
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] = new int[]{r.nextInt(6), r.nextInt(6), r.nextInt(6), r.nextInt(6)};
+            }
+            rnd = new Random(5);
+            roster.list.getLeaderboardByCategory(CATEGORY); // builds the indexes, as the GUI would
+        }
+    }
+
+    // the pre-index implementation
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Team> filterAndSort(Roster roster) {
+        ArrayList<Team> list = new ArrayList<>();
+        for (Team t : roster.list.getAllTeams()) if (t.getCategory().equalsIgnoreCase(CATEGORY)) list.add(t);
+        list.sort((a, b) -> Double.compare(b.getOverallScore(), a.getOverallScore()));
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Team> topK(Roster roster) {
+        return roster.list.topK(CATEGORY, 10);
+    }
+
+    @Benchmark
+    public int rankOf(Roster roster, TeamListBenchmark.Ids ids) {
+        return roster.list.rankOf(ids.next());
+    }
+
+    @Benchmark
+    public Team scoreEdit(Roster roster, Edits edits) {
+        Team t = roster.list.getAllTeams().get(edits.rnd.nextInt(roster.teams));
+        t.setScores(edits.scores[edits.next++ & (edits.scores.length - 1)]);
+        return t;
+    }
+}
@@ -0,0 +1,90 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OverallScoreBenchmark - getOverallScore for each kind of team (GeneralTeam
+ * = simple average, CyberTeam = Technical x2, AITeam = trimmed mean), with
+ * scores in per-team arrays or in columns (TeamList(true)).
+ *
+ *   allTeams   sum of getOverallScore over the whole roster (cached scores)
+ *   afterEdit  setScores on one team, then getOverallScore (cache miss,
+ *              including the list's index upkeep for the edit)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OverallScoreBenchmark {
+
+    @State(Scope.Thread)
+    public static class Teams {
+        @Param({"1000", "100000", "1000000"})
+        public int teams;
+
+        @Param({"GeneralTeam", "CyberTeam", "AITeam"})
+        public String kind;
+
+        @Param({"false", "true"})
+        public boolean columnar;
+
+        TeamList list;
+        Team[] roster;
+        int[][] edits;
+        int next;
+
+        @Setup(Level.Trial)
+        public void build() {
+            list = new TeamList(columnar);
+            roster = new Team[teams];
+            Random rnd = new Random(42);
+            for (int i = 0; i < teams; i++) {
+                int id = i + 1;
+                int[] scores = {rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6)};
+                String uni = Roster.UNIVERSITIES[rnd.nextInt(Roster.UNIVERSITIES.length)];
+                Team t;
+                if (kind.equals("CyberTeam")) t = new CyberTeam(id, "Team " + id, uni, scores);
+                else if (kind.equals("AITeam")) t = new AITeam(id, "Team " + id, uni, scores);
+                else t = new GeneralTeam(id, "Team " + id, uni, "Web Development", scores);
+                list.addTeam(t);
+                roster[i] = t;
+            }
+            list.getLeaderboard(); // build the indexes an edit keeps up to date, as in the GUI
+            edits = new int[1024][];
+            for (int i = 0; i < edits.length; i++) {
+                edits[i] = new int[]{rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6)};
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double allTeams(Teams state) {
+        double sum = 0;
+        for (Team t : state.roster) sum += t.getOverallScore();
+        return sum;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double afterEdit(Teams state) {
+        int i = state.next++;
+        Team t = state.roster[(int) ((i * 0x9E3779B9L & 0xFFFFFFFFL) % state.teams)];
+        t.setScores(state.edits[i & (state.edits.length - 1)]);
+        return t.getOverallScore();
+    }
+}
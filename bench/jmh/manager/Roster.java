@@ -0,0 +1,44 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Roster - JMH state holding a synthetic TeamList of 1k, 100k or 1M teams
+ * (IDs 1..teams, seeded random scores, categories alternating Cybersecurity
+ * and Artificial Intelligence), built once per trial and shared by threads.
+ */
+@State(Scope.Benchmark)
+public class Roster {
+
+    static final String[] UNIVERSITIES = {"UM", "UTM", "UKM", "USM", "UMS", "UPM", "UiTM", "Monash"};
+
+    @Param({"1000", "100000", "1000000"})
+    public int teams;
+
+    TeamList list;
+
+    @Setup(Level.Trial)
+    public void build() {
+        list = build(teams);
+    }
+
+    static TeamList build(int n) {
+        TeamList list = new TeamList();
+        Random rnd = new Random(42);
+        for (int id = 1; id <= n; id++) list.addTeam(team(id, rnd));
+        return list;
+    }
+
+    static Team team(int id, Random rnd) {
+        int[] scores = {rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6)};
+        String name = "Team " + id;
+        String uni = UNIVERSITIES[rnd.nextInt(UNIVERSITIES.length)];
+        return (id & 1) == 0 ? new CyberTeam(id, name, uni, scores) : new AITeam(id, name, uni, scores);
+    }
+}
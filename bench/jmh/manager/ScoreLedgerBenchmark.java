@@ -0,0 +1,119 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScoreLedgerBenchmark - one judge submission through ScoreLedger (O(1)
+ * running sums) next to keeping a list of Score objects per team, replacing
+ * the judge's earlier one and re-averaging it on every submission.
+ *
+ * Every judge scores every team, pass after pass, each pass in its own random
+ * team order; after the first JUDGES passes every submission replaces an
+ * earlier one. The teams are not in a TeamList, so the index upkeep both
+ * share in a live list is left out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ScoreLedgerBenchmark {
+
+    private static final int JUDGES = 16;
+
+    @State(Scope.Thread)
+    public static class Submissions {
+        @Param({"1000", "100000", "1000000"})
+        public int teams;
+
+        Team[] roster;
+        Judge[] judges;
+        int[][] orders; // 2 x JUDGES shuffled passes, reused in turn
+        int pass, pos;
+        Random rnd;
+
+        ScoreLedger ledger;
+        ArrayList<ArrayList<Score>> perTeam;
+
+        @Setup(Level.Trial)
+        public void build() {
+            Random r = new Random(42);
+            roster = new Team[teams];
+            for (int i = 0; i < teams; i++) roster[i] = Roster.team(i + 1, r);
+            judges = new Judge[JUDGES];
+            for (int j = 0; j < JUDGES; j++) judges[j] = new Judge(100 + j, new Name("Judge", "" + j));
+
+            r = new Random(3);
+            orders = new int[2 * JUDGES][];
+            for (int p = 0; p < orders.length; p++) {
+                int[] order = new int[teams];
+                for (int i = 0; i < teams; i++) order[i] = i;
+                for (int i = teams - 1; i > 0; i--) {
+                    int k = r.nextInt(i + 1), tmp = order[i];
+                    order[i] = order[k];
+                    order[k] = tmp;
+                }
+                orders[p] = order;
+            }
+            rnd = new Random(7);
+
+            ledger = new ScoreLedger();
+            perTeam = new ArrayList<>(teams);
+            for (int i = 0; i < teams; i++) perTeam.add(new ArrayList<>());
+        }
+
+        // the next submission, as the judges would send them
+        Score next() {
+            int i = orders[pass % orders.length][pos];
+            Judge judge = judges[pass % JUDGES];
+            if (++pos == teams) {
+                pos = 0;
+                pass++;
+            }
+            Team t = roster[i];
+            return new Score(judge, t, rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6));
+        }
+    }
+
+    @Benchmark
+    public Score ledger(Submissions s) {
+        Score score = s.next();
+        s.ledger.submit(score);
+        return score;
+    }
+
+    // the naive way: keep every Score per team, replace the judge's old one and average them all again
+    @Benchmark
+    public Score rescan(Submissions s) {
+        Score score = s.next();
+        Team t = score.getTeam();
+        ArrayList<Score> scores = s.perTeam.get(t.getTeamID() - 1);
+        int k = 0;
+        while (k < scores.size() && scores.get(k).getJudge() != score.getJudge()) k++;
+        if (k < scores.size()) scores.set(k, score);
+        else scores.add(score);
+        int[] sum = new int[4];
+        for (Score each : scores) {
+            int[] a = each.getScoreArray();
+            for (int c = 0; c < 4; c++) sum[c] += a[c];
+        }
+        for (int c = 0; c < 4; c++) sum[c] = (2 * sum[c] + scores.size()) / (2 * scores.size());
+        t.setScores(sum);
+        return score;
+    }
+}
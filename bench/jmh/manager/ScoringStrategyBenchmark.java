@@ -0,0 +1,80 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScoringStrategyBenchmark - one call of each built-in ScoringStrategy
+ * formula, next to the copy+sort and IntStream versions they replaced.
+ * Run with -prof gc: gc.alloc.rate.norm is the bytes allocated per call,
+ * which is ~0 for the strategies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringStrategyBenchmark {
+
+    /** Random score arrays, walked round-robin per thread. */
+    @State(Scope.Thread)
+    public static class Scores {
+        int[][] data;
+        int next;
+
+        @Setup(Level.Trial)
+        public void build() {
+            Random rnd = new Random(42);
+            data = new int[4096][];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = new int[]{rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6)};
+            }
+        }
+
+        int[] next() {
+            return data[next++ & (data.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public double trimmedMean(Scores s) {
+        return ScoringStrategy.TRIMMED_MEAN.score(s.next());
+    }
+
+    @Benchmark
+    public double cyberWeighted(Scores s) {
+        return ScoringStrategy.CYBER_WEIGHTED.score(s.next());
+    }
+
+    @Benchmark
+    public double mean(Scores s) {
+        return ScoringStrategy.MEAN.score(s.next());
+    }
+
+    // what AITeam did before: copy, sort, average the middle two
+    @Benchmark
+    public double oldCopySort(Scores s) {
+        int[] sorted = Arrays.copyOf(s.next(), ScoringStrategy.CRITERIA);
+        Arrays.sort(sorted);
+        return (sorted[1] + sorted[2]) / 2.0;
+    }
+
+    // what the fallback team did before
+    @Benchmark
+    public double oldIntStream(Scores s) {
+        return Arrays.stream(s.next()).average().orElse(0.0);
+    }
+}
@@ -0,0 +1,97 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatsBenchmark - roster statistics:
+ *
+ *   computeStats          one full pass, with per-team score arrays or
+ *                         columnar scores (TeamList(true))
+ *   computeStatsParallel  the same pass split over fork/join workers
+ *   summaryMaintained     the report's summary block read from TeamList's
+ *                         maintained statistics
+ *   summaryFivePasses     the five walks over all teams it replaced
+ *
+ * TeamStatsCheck covers the parallel result matching the single-threaded one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StatsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Columns {
+        @Param({"1000", "100000", "1000000"})
+        public int teams;
+
+        @Param({"false", "true"})
+        public boolean columnar;
+
+        TeamList list;
+
+        @Setup(Level.Trial)
+        public void build() {
+            list = new TeamList(columnar);
+            Random rnd = new Random(42);
+            for (int id = 1; id <= teams; id++) list.addTeam(Roster.team(id, rnd));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Workers {
+        @Param({"1", "2", "4"})
+        public int threads;
+    }
+
+    @Benchmark
+    public TeamStats computeStats(Columns state) {
+        return state.list.computeStats(1);
+    }
+
+    @Benchmark
+    public TeamStats computeStatsParallel(Roster roster, Workers workers) {
+        return roster.list.computeStats(workers.threads);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double summaryMaintained(Roster roster) {
+        TeamList list = roster.list;
+        return list.getHighestScoreTeam().getTeamID() + list.getAverageScore()
+                + list.getMinOverallScore() + list.getMaxOverallScore() + list.getScoreFrequency()[5];
+    }
+
+    // the pre-index implementation: one walk per statistic
+    @Benchmark
+    public double summaryFivePasses(Roster roster) {
+        List<Team> teams = roster.list.getAllTeams();
+        Team best = teams.get(0);
+        for (Team t : teams) if (t.getOverallScore() > best.getOverallScore()) best = t;
+        double sum = 0;
+        for (Team t : teams) sum += t.getOverallScore();
+        double min = Double.MAX_VALUE;
+        for (Team t : teams) min = Math.min(min, t.getOverallScore());
+        double max = -Double.MAX_VALUE;
+        for (Team t : teams) max = Math.max(max, t.getOverallScore());
+        int[] freq = new int[6];
+        for (Team t : teams) for (int i = 0; i < 4; i++) if (t.getScore(i) >= 0 && t.getScore(i) <= 5) freq[t.getScore(i)]++;
+        return best.getTeamID() + sum / teams.size() + min + max + freq[5];
+    }
+}
@@ -0,0 +1,86 @@
+package manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TeamListBenchmark - lookups and queries on a loaded roster: getTeamByID
+ * (about 10% misses) and getLeaderboardByCategory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TeamListBenchmark {
+
+    /** Random IDs to look up, walked round-robin per thread. */
+    @State(Scope.Thread)
+    public static class Ids {
+        int[] ids;
+        int next;
+
+        @Setup(Level.Trial)
+        public void pick(Roster roster) {
+            Random rnd = new Random(7);
+            int n = roster.teams;
+            ids = new int[1 << 16];
+            for (int i = 0; i < ids.length; i++) ids[i] = 1 + rnd.nextInt(n + n / 10 + 1);
+        }
+
+        int next() {
+            return ids[next++ & (ids.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public Team getTeamByID(Roster roster, Ids ids) {
+        return roster.list.getTeamByID(ids.next());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ArrayList<Team> getLeaderboardByCategory(Roster roster) {
+        return roster.list.getLeaderboardByCategory("Cybersecurity");
+    }
+
+    /**
+     * registerTeam on a roster that starts each iteration at the given size and
+     * grows by the teams registered during it.
+     */
+    @State(Scope.Thread)
+    public static class Growing {
+        @Param({"1000", "100000", "1000000"})
+        public int teams;
+
+        TeamList list;
+        Random rnd;
+        int nextID;
+
+        @Setup(Level.Iteration)
+        public void build() {
+            list = Roster.build(teams);
+            rnd = new Random(11);
+            nextID = teams + 1;
+        }
+    }
+
+    @Benchmark
+    public boolean registerTeam(Growing state) {
+        return state.list.registerTeam(Roster.team(state.nextID++, state.rnd));
+    }
+}
@@ -1,11 +1,20 @@
 package manager;
 
+import java.util.ArrayList;
+import java.util.List;
+
     public class Admin extends Staff {
     public Admin(int staffID, Name name) {
         super(staffID, name, "Admin");
     }
 
     public void manageCategories() {}
-    public void assignJudges() {}
+
+    // Gives every team judgesPerTeam judges from other universities, keeping loads even;
+    // returns the teams that could not get that many
+    public ArrayList<Team> assignJudges(List<Team> teams, List<Judge> judges, int judgesPerTeam) {
+        return JudgeScheduler.assign(teams, judges, judgesPerTeam);
+    }
+
     public void generateReports() {}  
 }
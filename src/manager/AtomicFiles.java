@@ -0,0 +1,34 @@
+package manager;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * AtomicFiles - write-then-rename for the CSV and snapshot saves, so a crash
+ * never leaves a half-written file in place of the old one.
+ */
+final class AtomicFiles {
+
+    private AtomicFiles() {}
+
+    /**
+     * A new, uniquely named file next to target (same directory, so the final
+     * move can be atomic). Two saves of the same file never share a temp file.
+     */
+    static Path tempFileFor(Path target) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        return Files.createTempFile(dir, target.getFileName() + ".", ".tmp");
+    }
+
+    /** Moves the finished tmp over target, atomically where the file system can. */
+    static void replace(Path tmp, Path target) throws IOException {
+        try {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -5,7 +5,7 @@ import java.util.ArrayList;
 public class Category {
 
     private int categoryID;
-    private String categoryName;
+    private volatile String categoryName; // edited through Team.setCategory while others may read
     private String description;
 
     private ArrayList<Team> teams = new ArrayList<>();
@@ -0,0 +1,265 @@
+package manager;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * CsvTokenizer - the single-pass RFC 4180 scanner behind TeamCsvReader (chars
+ * from a Reader) and MappedTeamCsvReader (bytes of a mapped file).
+ *
+ * Subclasses own the buffer: they refill it and turn field spans into
+ * Strings. This class finds records and fields in it, recording only where
+ * each field starts and ends, and parses integers in place. Every delimiter
+ * is ASCII, so the same scan works on UTF-8 bytes without decoding them.
+ */
+abstract class CsvTokenizer implements TeamCsvSource {
+
+    // fields beyond this are counted but not tracked
+    static final int MAX_FIELDS = 16;
+
+    // scanner states
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int QUOTE_IN_QUOTED = 3; // saw '"' inside quotes: escape or closing quote
+    private static final int AFTER_QUOTED = 4;
+
+    // buffer window [pos, limit); fill() moves it
+    int pos, limit;
+    private boolean skipLF;   // last record ended on '\r'; swallow a following '\n'
+    private int line;         // physical line number at pos
+
+    // current record
+    int recordStart;
+    private int recordEnd;
+    private int recordLine;
+    int fieldCount;
+    private boolean unterminated;
+    final int[] start = new int[MAX_FIELDS];
+    final int[] end = new int[MAX_FIELDS];
+    final boolean[] quoted = new boolean[MAX_FIELDS];
+    final boolean[] escaped = new boolean[MAX_FIELDS];
+
+    // small cache so repeated category values share one String
+    final String[] seenValues = new String[32];
+    int seenCount;
+
+    CsvTokenizer(int firstLine) {
+        this.line = firstLine;
+    }
+
+    /** The char, or unsigned byte, at buffer index i. */
+    abstract int at(int i);
+
+    /**
+     * Makes more input available after limit, keeping [recordStart, limit) in
+     * the buffer, and updates limit. Returns how far that span moved left;
+     * nothing is added at end of input.
+     */
+    abstract int fill() throws IOException;
+
+    /** Buffer span [from, to) as a String, collapsing "" escapes when asked. */
+    abstract String text(int from, int to, boolean unescape);
+
+    @Override
+    public boolean next() throws IOException {
+        fieldCount = 0;
+        unterminated = false;
+        recordStart = pos;
+        recordLine = line;
+
+        int state = FIELD_START;
+        int p = pos;
+        int fieldBegin = p;
+        boolean fieldEscaped = false;
+
+        while (true) {
+            if (p == limit) {
+                int shift = refill();
+                p -= shift;
+                fieldBegin -= shift;
+                if (p == limit) { // end of input
+                    pos = p;
+                    if (state == FIELD_START && fieldCount == 0 && p == recordStart) return false;
+                    recordEnd = p;
+                    if (state == QUOTED) unterminated = true;
+                    endField(state, fieldBegin, p, fieldEscaped);
+                    trimTrailingEmpty();
+                    return true;
+                }
+            }
+            int c = at(p);
+
+            if (skipLF) {
+                skipLF = false;
+                if (c == '\n') { p++; recordStart = p; fieldBegin = p; continue; }
+            }
+
+            switch (state) {
+                case FIELD_START:
+                    if (c == '"') {
+                        state = QUOTED;
+                        fieldBegin = p + 1;
+                        fieldEscaped = false;
+                        p++;
+                        continue;
+                    }
+                    if (c == ' ' || c == '\t') { p++; continue; }
+                    state = UNQUOTED;
+                    fieldBegin = p;
+                    continue; // look at c again as part of an unquoted field
+                case UNQUOTED:
+                    if (c == ',') {
+                        endField(UNQUOTED, fieldBegin, p, false);
+                        state = FIELD_START;
+                        fieldBegin = ++p;
+                        continue;
+                    }
+                    if (c == '\n' || c == '\r') {
+                        endField(UNQUOTED, fieldBegin, p, false);
+                        return endRecord(p, c);
+                    }
+                    p++;
+                    continue;
+                case QUOTED:
+                    if (c == '"') state = QUOTE_IN_QUOTED;
+                    else if (c == '\n') line++;
+                    p++;
+                    continue;
+                case QUOTE_IN_QUOTED:
+                    if (c == '"') { // "" escape
+                        fieldEscaped = true;
+                        state = QUOTED;
+                        p++;
+                        continue;
+                    }
+                    endField(QUOTED, fieldBegin, p - 1, fieldEscaped);
+                    state = AFTER_QUOTED;
+                    continue; // look at c again: it is the first one after the closing quote
+                default: // AFTER_QUOTED: ignore anything up to the delimiter
+                    if (c == ',') {
+                        state = FIELD_START;
+                        fieldBegin = ++p;
+                        continue;
+                    }
+                    if (c == '\n' || c == '\r') return endRecord(p, c);
+                    p++;
+            }
+        }
+    }
+
+    // fill() plus moving the spans of the record in progress along with the buffer
+    private int refill() throws IOException {
+        int shift = fill();
+        if (shift == 0) return 0;
+        for (int i = 0; i < Math.min(fieldCount, MAX_FIELDS); i++) {
+            start[i] -= shift;
+            end[i] -= shift;
+        }
+        recordStart -= shift;
+        return shift;
+    }
+
+    private void endField(int state, int from, int to, boolean hasEscapes) {
+        if (state == AFTER_QUOTED) return; // already closed by the quote
+        if (state == QUOTE_IN_QUOTED) { state = QUOTED; to--; }
+        if (fieldCount < MAX_FIELDS) {
+            start[fieldCount] = from;
+            end[fieldCount] = Math.max(from, to);
+            quoted[fieldCount] = state == QUOTED;
+            escaped[fieldCount] = hasEscapes;
+        }
+        fieldCount++;
+    }
+
+    private boolean endRecord(int p, int terminator) {
+        trimTrailingEmpty();
+        recordEnd = p;
+        line++;
+        skipLF = terminator == '\r';
+        pos = p + 1;
+        return true;
+    }
+
+    // String.split(",") semantics for the field count: trailing empty fields don't count
+    private void trimTrailingEmpty() {
+        while (fieldCount > 1 && fieldCount <= MAX_FIELDS) {
+            int last = fieldCount - 1;
+            if (quoted[last] || end[last] > start[last]) break;
+            fieldCount--;
+        }
+    }
+
+    // ----- Accessors for the current record -----
+
+    @Override
+    public int line() { return recordLine; }
+
+    @Override
+    public int fieldCount() { return fieldCount; }
+
+    @Override
+    public boolean isUnterminated() { return unterminated; }
+
+    @Override
+    public boolean isBlank() {
+        if (fieldCount != 1 || quoted[0]) return false;
+        for (int i = start[0]; i < end[0]; i++) if (at(i) > ' ') return false;
+        return true;
+    }
+
+    @Override
+    public boolean isHeader() {
+        if (fieldCount == 0) return false;
+        String record = text(recordStart, recordEnd, false);
+        return record.toLowerCase(Locale.ROOT).contains("team id") || textField(0).equalsIgnoreCase("teamID");
+    }
+
+    // parses in place, without creating a substring
+    @Override
+    public int intField(int i) {
+        int from = start[i], to = end[i];
+        while (from < to && at(from) <= ' ') from++;
+        while (to > from && at(to - 1) <= ' ') to--;
+        if (from == to) throw new NumberFormatException();
+
+        boolean negative = false;
+        int first = at(from);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++from == to) throw new NumberFormatException();
+        }
+        // accumulate negatively so Integer.MIN_VALUE parses like Integer.parseInt
+        int limitValue = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int result = 0;
+        for (int k = from; k < to; k++) {
+            int d = at(k) - '0';
+            if (d < 0 || d > 9) throw new NumberFormatException();
+            if (result < limitValue / 10) throw new NumberFormatException();
+            result *= 10;
+            if (result < limitValue + d) throw new NumberFormatException();
+            result -= d;
+        }
+        return negative ? result : -result;
+    }
+
+    @Override
+    public String textField(int i) {
+        int from = start[i], to = end[i];
+        if (!quoted[i]) {
+            while (from < to && at(from) <= ' ') from++;
+            while (to > from && at(to - 1) <= ' ') to--;
+        }
+        return text(from, to, quoted[i] && escaped[i]);
+    }
+
+    @Override
+    public String sharedTextField(int i) {
+        String text = textField(i);
+        for (int s = 0; s < seenCount; s++) {
+            if (seenValues[s].equals(text)) return seenValues[s];
+        }
+        if (seenCount < seenValues.length) seenValues[seenCount++] = text;
+        return text;
+    }
+}
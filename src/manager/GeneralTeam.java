@@ -0,0 +1,13 @@
+package manager;
+
+/**
+ * GeneralTeam - a team in any category without its own Team subclass.
+ * Its overall score comes from whatever ScoringStrategy is registered for
+ * the category (a simple average unless configured otherwise).
+ */
+public class GeneralTeam extends Team {
+
+    public GeneralTeam(int teamID, String teamName, String university, String categoryName, int[] scores) {
+        super(teamID, teamName, university, new Category(0, categoryName, "General Category"), scores);
+    }
+}
@@ -0,0 +1,121 @@
+package manager;
+
+import java.util.Arrays;
+
+/**
+ * IntTeamMap - open-addressing hash map from a primitive team ID to its Team.
+ * Used by TeamList as the primary-key index so getTeamByID() is O(1)
+ * without boxing every ID into an Integer.
+ */
+final class IntTeamMap {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private Team[] values;   // null slot = empty
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    IntTeamMap() { this(16); }
+
+    IntTeamMap(int expected) {
+        int cap = 16;
+        while (cap * LOAD_FACTOR < expected) cap <<= 1;
+        allocate(cap);
+    }
+
+    private void allocate(int cap) {
+        keys = new int[cap];
+        values = new Team[cap];
+        mask = cap - 1;
+        resizeAt = (int) (cap * LOAD_FACTOR);
+    }
+
+    // spread the bits so sequential IDs don't cluster in neighbouring slots
+    static int slot(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    public Team get(int key) {
+        int i = slot(key, mask);
+        Team v;
+        while ((v = values[i]) != null) {
+            if (keys[i] == key) return v;
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) { return get(key) != null; }
+
+    /** Stores the team under key, returning the team previously stored there (or null). */
+    public Team put(int key, Team value) {
+        int i = slot(key, mask);
+        Team v;
+        while ((v = values[i]) != null) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return v;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) rehash(keys.length << 1);
+        return null;
+    }
+
+    public Team remove(int key) {
+        int i = slot(key, mask);
+        Team v;
+        while ((v = values[i]) != null) {
+            if (keys[i] == key) {
+                shiftBack(i);
+                size--;
+                return v;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    // backward-shift deletion keeps probe chains intact without tombstones
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            Team v = values[i];
+            if (v == null) break;
+            int home = slot(keys[i], mask);
+            // move the entry into the gap if its home slot is not between gap and i (cyclically)
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = v;
+                gap = i;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void rehash(int cap) {
+        int[] oldKeys = keys;
+        Team[] oldValues = values;
+        allocate(cap);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+            int j = slot(oldKeys[i], mask);
+            while (values[j] != null) j = (j + 1) & mask;
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    public int size() { return size; }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+}
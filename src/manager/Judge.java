@@ -1,13 +1,22 @@
 package manager;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class Judge extends Staff {
 
     private ArrayList<Team> assignedTeams = new ArrayList<>();
+    // Judges never get teams from their own university (see JudgeScheduler); null = none
+    private String university;
 
     public Judge(int staffID, Name name) {
+        this(staffID, name, null);
+    }
+
+    public Judge(int staffID, Name name, String university) {
         super(staffID, name, "Judge"); // role is fixed
+        this.university = university;
     }
 
     public void updateScores() {}
@@ -18,4 +27,11 @@ public class Judge extends Staff {
     public void assignTeam(Team t) {
         assignedTeams.add(t);
     }
+
+    public String getUniversity() { return university; }
+
+    public List<Team> getAssignedTeams() { return Collections.unmodifiableList(assignedTeams); }
+
+    // Number of teams assigned so far
+    public int getLoad() { return assignedTeams.size(); }
 }
@@ -0,0 +1,137 @@
+package manager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JudgeScheduler - spreads teams across judges: every team gets up to k
+ * distinct judges, no judge gets a team from their own university, and the
+ * number of teams per judge stays as even as those rules allow.
+ *
+ * Greedy with a min-heap of judges keyed by (load, position in the list):
+ * each team takes the k least-loaded judges without a conflict, and those
+ * go back into the heap one team heavier. Conflicting judges popped on the
+ * way are pushed back unchanged. A team costs O((k + conflicts) log J), so
+ * 100k teams over 1k judges take well under a second.
+ *
+ * Judges start from the teams they already have, so running it again keeps
+ * loads even. A judge who already has a team counts towards that team's k
+ * and is never given it twice; a judge or team listed twice counts once.
+ */
+public final class JudgeScheduler {
+
+    private JudgeScheduler() {}
+
+    /**
+     * Assigns each team to up to judgesPerTeam judges through Judge.assignTeam,
+     * counting the judges it already has. Returns the teams left with fewer
+     * because too few judges were free of conflicts with them (empty if every
+     * team is fully covered).
+     */
+    public static ArrayList<Team> assign(List<Team> teams, List<Judge> judges, int judgesPerTeam) {
+        if (judgesPerTeam < 1) throw new IllegalArgumentException("judgesPerTeam must be at least 1");
+        ArrayList<Team> shortOfJudges = new ArrayList<>();
+        Judge[] byIndex = distinct(judges).toArray(new Judge[0]);
+        int judgeCount = byIndex.length;
+        List<Team> distinctTeams = distinct(teams);
+
+        // judges (by index) that already have each team, so a re-run neither repeats nor over-covers it
+        IdentityHashMap<Team, ArrayList<Integer>> existing = new IdentityHashMap<>();
+        for (Team team : distinctTeams) existing.put(team, null);
+        for (int j = 0; j < judgeCount; j++) {
+            for (Team team : byIndex[j].getAssignedTeams()) {
+                if (!existing.containsKey(team)) continue;
+                ArrayList<Integer> have = existing.get(team);
+                if (have == null) existing.put(team, have = new ArrayList<>(judgesPerTeam));
+                if (!have.contains(j)) have.add(j);
+            }
+        }
+        if (judgeCount == 0) {
+            shortOfJudges.addAll(distinctTeams);
+            return shortOfJudges;
+        }
+
+        // heap entries are (load << 32 | index), so the smallest is the least-loaded, earliest judge
+        long[] heap = new long[judgeCount];
+        for (int j = 0; j < judgeCount; j++) heap[j] = key(byIndex[j].getLoad(), j);
+        for (int i = judgeCount / 2 - 1; i >= 0; i--) siftDown(heap, judgeCount, i);
+        int size = judgeCount;
+
+        long[] picked = new long[Math.min(judgesPerTeam, judgeCount)];
+        long[] held = new long[judgeCount];
+        for (Team team : distinctTeams) {
+            String university = team.getUniversity();
+            ArrayList<Integer> have = existing.get(team);
+            int already = have == null ? 0 : have.size();
+            int chosen = 0, conflicts = 0;
+            while (already + chosen < picked.length && size > 0) {
+                long top = heap[0];
+                heap[0] = heap[--size];
+                siftDown(heap, size, 0);
+                int j = (int) top;
+                if (conflicts(byIndex[j], university) || (have != null && have.contains(j))) {
+                    held[conflicts++] = top;
+                } else {
+                    picked[chosen++] = top;
+                }
+            }
+            for (int i = 0; i < chosen; i++) {
+                int j = (int) picked[i];
+                byIndex[j].assignTeam(team);
+                heap[size] = picked[i] + (1L << 32); // one more team
+                siftUp(heap, size++);
+            }
+            for (int i = 0; i < conflicts; i++) {
+                heap[size] = held[i];
+                siftUp(heap, size++);
+            }
+            if (already + chosen < judgesPerTeam) shortOfJudges.add(team);
+        }
+        return shortOfJudges;
+    }
+
+    // the list without repeats, in first-seen order (by identity, like Judge.assignTeam)
+    private static <T> List<T> distinct(List<T> list) {
+        Set<T> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayList<T> out = new ArrayList<>(list.size());
+        for (T x : list) if (seen.add(x)) out.add(x);
+        return out;
+    }
+
+    // a judge may not score a team from their own university
+    private static boolean conflicts(Judge judge, String teamUniversity) {
+        String university = judge.getUniversity();
+        return university != null && teamUniversity != null && university.trim().equalsIgnoreCase(teamUniversity.trim());
+    }
+
+    private static long key(int load, int index) {
+        return ((long) load << 32) | index;
+    }
+
+    private static void siftUp(long[] heap, int i) {
+        long x = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= x) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = x;
+    }
+
+    private static void siftDown(long[] heap, int size, int i) {
+        long x = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (x <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = x;
+    }
+}
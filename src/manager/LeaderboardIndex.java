@@ -0,0 +1,262 @@
+package manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * LeaderboardIndex - teams kept in leaderboard order (overall score high to
+ * low, then teamID low to high) so a leaderboard is an in-order walk instead
+ * of a filter + sort. Used by TeamList, one index per category plus one for
+ * all teams.
+ *
+ * It is a treap (a binary search tree balanced by random heap priorities)
+ * whose nodes also count their subtree size. Adding and removing a team is
+ * O(log n) expected. Each node remembers the score the team was indexed
+ * with, so a team must be removed before its score changes and re-added
+ * afterwards; TeamList does this from Team's before/after change hooks.
+ */
+final class LeaderboardIndex {
+
+    /** Leaderboard order: overall score descending, then teamID ascending. */
+    static final Comparator<Team> ORDER = (a, b) -> {
+        int c = Double.compare(b.getOverallScore(), a.getOverallScore());
+        return c != 0 ? c : Integer.compare(a.getTeamID(), b.getTeamID());
+    };
+
+    private static final class Node {
+        final Team team;
+        final double score;
+        final int id;
+        final int priority;
+        int size = 1;
+        Node left, right;
+
+        Node(Team team, int priority) {
+            this.team = team;
+            this.score = team.getOverallScore();
+            this.id = team.getTeamID();
+            this.priority = priority;
+        }
+    }
+
+    private Node root;
+    private int seed = 0x2545F491;
+    private boolean found; // set by remove()
+
+    /** Builds an index in O(n) from teams already sorted in ORDER. */
+    static LeaderboardIndex build(List<Team> sorted) {
+        LeaderboardIndex index = new LeaderboardIndex();
+        // Cartesian tree over the sorted sequence: each node pops every lower-priority
+        // node off the right spine and adopts them as its left subtree
+        Node[] spine = new Node[64];
+        int depth = 0;
+        for (Team t : sorted) {
+            Node n = new Node(t, index.nextPriority());
+            Node last = null;
+            while (depth > 0 && spine[depth - 1].priority < n.priority) last = spine[--depth];
+            n.left = last;
+            if (depth > 0) spine[depth - 1].right = n;
+            if (depth == spine.length) spine = Arrays.copyOf(spine, depth * 2);
+            spine[depth++] = n;
+        }
+        index.root = depth > 0 ? spine[0] : null;
+        fixSizes(index.root);
+        return index;
+    }
+
+    private static int fixSizes(Node n) {
+        if (n == null) return 0;
+        n.size = 1 + fixSizes(n.left) + fixSizes(n.right);
+        return n.size;
+    }
+
+    public int size() { return size(root); }
+
+    public boolean isEmpty() { return root == null; }
+
+    public void add(Team team) {
+        root = insert(root, new Node(team, nextPriority()));
+    }
+
+    /** Removes this exact team; must be called while it still has the score it was added with. */
+    public boolean remove(Team team) {
+        found = false;
+        root = remove(root, team, team.getOverallScore(), team.getTeamID());
+        return found;
+    }
+
+    /** All teams in leaderboard order. */
+    public ArrayList<Team> toList() {
+        ArrayList<Team> list = new ArrayList<>(size());
+        Node[] stack = new Node[64];
+        int depth = 0;
+        Node n = root;
+        while (n != null || depth > 0) {
+            while (n != null) {
+                if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+                stack[depth++] = n;
+                n = n.left;
+            }
+            n = stack[--depth];
+            list.add(n.team);
+            n = n.right;
+        }
+        return list;
+    }
+
+    /** The team at 0-based position rank in leaderboard order, or null if out of range. */
+    public Team get(int rank) {
+        if (rank < 0 || rank >= size()) return null;
+        Node n = root;
+        while (true) {
+            int left = size(n.left);
+            if (rank < left) {
+                n = n.left;
+            } else if (rank == left) {
+                return n.team;
+            } else {
+                rank -= left + 1;
+                n = n.right;
+            }
+        }
+    }
+
+    /** 0-based position of this exact team, or -1 if it is not in the index. */
+    public int rankOf(Team team) {
+        return rank(root, team, team.getOverallScore(), team.getTeamID());
+    }
+
+    /** Up to limit teams in leaderboard order, starting at 0-based position offset. */
+    public ArrayList<Team> range(int offset, int limit) {
+        int count = Math.max(0, Math.min(limit, size() - Math.max(offset, 0)));
+        ArrayList<Team> list = new ArrayList<>(count);
+        if (count == 0) return list;
+
+        // descend to position offset; the stack keeps the ancestors still to be visited
+        Node[] stack = new Node[64];
+        int depth = 0;
+        Node n = root;
+        int k = Math.max(offset, 0);
+        while (true) {
+            int left = size(n.left);
+            if (k <= left) {
+                if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+                stack[depth++] = n;
+                if (k == left) break;
+                n = n.left;
+            } else {
+                k -= left + 1;
+                n = n.right;
+            }
+        }
+        while (list.size() < count) {
+            n = stack[--depth];
+            list.add(n.team);
+            for (n = n.right; n != null; n = n.left) {
+                if (depth == stack.length) stack = Arrays.copyOf(stack, depth * 2);
+                stack[depth++] = n;
+            }
+        }
+        return list;
+    }
+
+    // ----- treap internals -----
+
+    private static int size(Node n) { return n == null ? 0 : n.size; }
+
+    private static int compare(double scoreA, int idA, double scoreB, int idB) {
+        int c = Double.compare(scoreB, scoreA);
+        return c != 0 ? c : Integer.compare(idA, idB);
+    }
+
+    // equal keys (repeated IDs from a loaded CSV) go to the right, after the existing ones
+    private static Node insert(Node n, Node x) {
+        if (n == null) return x;
+        n.size++;
+        if (compare(x.score, x.id, n.score, n.id) < 0) {
+            n.left = insert(n.left, x);
+            if (n.left.priority > n.priority) n = rotateRight(n);
+        } else {
+            n.right = insert(n.right, x);
+            if (n.right.priority > n.priority) n = rotateLeft(n);
+        }
+        return n;
+    }
+
+    private Node remove(Node n, Team team, double score, int id) {
+        if (n == null) return null;
+        int c = compare(score, id, n.score, n.id);
+        if (c == 0 && n.team == team) {
+            found = true;
+            return merge(n.left, n.right);
+        }
+        if (c < 0) {
+            n.left = remove(n.left, team, score, id);
+        } else if (c > 0) {
+            n.right = remove(n.right, team, score, id);
+        } else {
+            // same key, different team: it may sit on either side
+            n.left = remove(n.left, team, score, id);
+            if (!found) n.right = remove(n.right, team, score, id);
+        }
+        if (found) n.size--;
+        return n;
+    }
+
+    private static int rank(Node n, Team team, double score, int id) {
+        if (n == null) return -1;
+        int c = compare(score, id, n.score, n.id);
+        if (c < 0) return rank(n.left, team, score, id);
+        if (c == 0) {
+            if (n.team == team) return size(n.left);
+            // same key, different team: look on both sides
+            int r = rank(n.left, team, score, id);
+            if (r >= 0) return r;
+        }
+        int r = rank(n.right, team, score, id);
+        return r < 0 ? -1 : size(n.left) + 1 + r;
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.priority > b.priority) {
+            a.size += b.size;
+            a.right = merge(a.right, b);
+            return a;
+        }
+        b.size += a.size;
+        b.left = merge(a, b.left);
+        return b;
+    }
+
+    private static Node rotateRight(Node n) {
+        Node l = n.left;
+        n.left = l.right;
+        l.right = n;
+        l.size = n.size;
+        n.size = 1 + size(n.left) + size(n.right);
+        return l;
+    }
+
+    private static Node rotateLeft(Node n) {
+        Node r = n.right;
+        n.right = r.left;
+        r.left = n;
+        r.size = n.size;
+        n.size = 1 + size(n.left) + size(n.right);
+        return r;
+    }
+
+    // xorshift; the treap only needs priorities that look random
+    private int nextPriority() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        return x;
+    }
+}
@@ -0,0 +1,91 @@
+package manager;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedTeamCsvReader - CsvTokenizer over a memory-mapped file, used by
+ * TeamList.loadFromCSVMapped for very large imports.
+ *
+ * The file is mapped in windows and scanned as raw UTF-8 bytes (the same
+ * charset loadFromCSV reads with); only the name, university and category
+ * fields are ever decoded into Strings.
+ */
+final class MappedTeamCsvReader extends CsvTokenizer {
+
+    private static final int DEFAULT_WINDOW = 64 << 20;
+
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long endOffset;  // stop scanning here (file size, or the end of a chunk)
+    private int window;
+
+    private MappedByteBuffer buf;
+    private long base;          // file offset of buf index 0
+    private byte[] scratch = new byte[256];
+
+    MappedTeamCsvReader(Path file) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.READ), true, 0, -1, 1, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Reads the byte range [from, to) of an open channel, numbering lines from
+     * firstLine. The channel stays open on close(), so several readers can share it.
+     */
+    MappedTeamCsvReader(FileChannel channel, long from, long to, int firstLine, int window) throws IOException {
+        this(channel, false, from, to, firstLine, window);
+    }
+
+    private MappedTeamCsvReader(FileChannel channel, boolean ownsChannel, long from, long to,
+                                int firstLine, int window) throws IOException {
+        super(firstLine);
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        long fileSize = channel.size();
+        this.endOffset = to < 0 ? fileSize : Math.min(to, fileSize);
+        this.window = window;
+        this.base = from;
+    }
+
+    @Override
+    int at(int i) { return buf.get(i) & 0xFF; }
+
+    /** Maps the next window so it starts at the current record. */
+    @Override
+    int fill() throws IOException {
+        long recordOffset = base + recordStart;
+        int keep = limit - recordStart;
+        if (recordOffset + keep >= endOffset) return 0;
+        if (keep >= window) window = (int) Math.min(Integer.MAX_VALUE - 8, (long) window * 2);
+
+        int size = (int) Math.min(window, endOffset - recordOffset);
+        buf = channel.map(FileChannel.MapMode.READ_ONLY, recordOffset, size);
+        int shift = recordStart;
+        base = recordOffset;
+        limit = size;
+        return shift;
+    }
+
+    // copies the bytes into scratch, collapsing "" escapes when asked, then decodes them
+    @Override
+    String text(int from, int to, boolean unescape) {
+        if (scratch.length < to - from) scratch = new byte[Math.max(to - from, scratch.length * 2)];
+        int n = 0;
+        for (int k = from; k < to; k++) {
+            byte c = buf.get(k);
+            scratch[n++] = c;
+            if (unescape && c == '"' && k + 1 < to && buf.get(k + 1) == '"') k++;
+        }
+        return new String(scratch, 0, n, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        buf = null;
+        if (ownsChannel) channel.close();
+    }
+}
@@ -0,0 +1,113 @@
+package manager;
+
+/**
+ * NameCategoryIndex - case-insensitive multiset of teams keyed by
+ * (teamName, category), used by TeamList for its duplicate check.
+ *
+ * Teams are hashed on the fly from their current name and category, so the
+ * index stores no key Strings of its own. Several teams may share a key
+ * (a loaded CSV can contain duplicates); each is its own entry.
+ */
+final class NameCategoryIndex {
+
+    private Team[] slots = new Team[16];
+    private int[] hashes = new int[16];
+    private int size;
+
+    public void add(Team team) {
+        if (size + 1 > slots.length >> 1) rehash(slots.length << 1);
+        insert(team, hash(team.getTeamName(), team.getCategory()));
+        size++;
+    }
+
+    /** Removes this exact team; must be called while it still has the name/category it was added with. */
+    public void remove(Team team) {
+        int mask = slots.length - 1;
+        int i = hash(team.getTeamName(), team.getCategory()) & mask;
+        Team t;
+        while ((t = slots[i]) != null) {
+            if (t == team) {
+                shiftBack(i);
+                size--;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /** True if any team matches name and category, ignoring case. */
+    public boolean contains(String name, String category) {
+        int h = hash(name, category);
+        int mask = slots.length - 1;
+        int i = h & mask;
+        Team t;
+        while ((t = slots[i]) != null) {
+            if (hashes[i] == h && equalsIgnoreCase(t.getTeamName(), name)
+                    && equalsIgnoreCase(t.getCategory(), category)) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public void clear() {
+        slots = new Team[16];
+        hashes = new int[16];
+        size = 0;
+    }
+
+    private void insert(Team team, int h) {
+        int mask = slots.length - 1;
+        int i = h & mask;
+        while (slots[i] != null) i = (i + 1) & mask;
+        slots[i] = team;
+        hashes[i] = h;
+    }
+
+    private void shiftBack(int gap) {
+        int mask = slots.length - 1;
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            if (slots[i] == null) break;
+            int home = hashes[i] & mask;
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                slots[gap] = slots[i];
+                hashes[gap] = hashes[i];
+                gap = i;
+            }
+        }
+        slots[gap] = null;
+    }
+
+    private void rehash(int cap) {
+        Team[] oldSlots = slots;
+        int[] oldHashes = hashes;
+        slots = new Team[cap];
+        hashes = new int[cap];
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != null) insert(oldSlots[i], oldHashes[i]);
+        }
+    }
+
+    private static boolean equalsIgnoreCase(String a, String b) {
+        return a == null ? b == null : a.equalsIgnoreCase(b);
+    }
+
+    // case-folded hash of both parts, consistent with equalsIgnoreCase
+    private static int hash(String name, String category) {
+        int h = fold(name) * 31 + fold(category);
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int fold(String s) {
+        if (s == null) return 0;
+        int h = 0;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return h;
+    }
+}
@@ -1,5 +1,8 @@
 package manager;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Organizer extends Staff {
 
     public Organizer(int staffID, Name name) {
@@ -8,6 +11,11 @@ public class Organizer extends Staff {
 
     public void requestResults() {}
     public void manageCategories() {}
-    public void assignJudges() {}
+
+    // Gives every team judgesPerTeam judges from other universities, keeping loads even;
+    // returns the teams that could not get that many
+    public ArrayList<Team> assignJudges(List<Team> teams, List<Judge> judges, int judgesPerTeam) {
+        return JudgeScheduler.assign(teams, judges, judgesPerTeam);
+    }
     public void generateReports() {}
 }
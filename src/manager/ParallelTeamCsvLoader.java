@@ -0,0 +1,194 @@
+package manager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelTeamCsvLoader - parses a team CSV in chunks on a ForkJoinPool for
+ * TeamList.loadFromCSVParallel.
+ *
+ * The file is cut just after newlines into roughly equal chunks. A first
+ * parallel pass counts the lines in each chunk so every chunk knows the file
+ * line it starts on; a second pass parses each chunk with its own
+ * MappedTeamCsvReader. Chunks come back in file order and are merged by the
+ * caller, so the result does not depend on thread timing.
+ */
+final class ParallelTeamCsvLoader {
+
+    private static final long MIN_CHUNK = 1 << 20;
+    private static final int CHUNK_WINDOW = 16 << 20;
+
+    /** An error reported against a line of the whole file. */
+    static final class LineError {
+        final int line;
+        final String message;
+
+        LineError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+
+    /** One parsed slice of the file: its teams in order, their lines, and its errors. */
+    static final class Chunk implements TeamList.TeamSink {
+        final long from, to;
+        int firstLine;
+        final ArrayList<Team> teams = new ArrayList<>();
+        int[] lines = new int[16]; // lines[i] is the file line of teams.get(i), for the duplicate ID check
+        final ArrayList<LineError> errors = new ArrayList<>();
+
+        Chunk(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public void team(int line, Team team) {
+            if (teams.size() == lines.length) lines = Arrays.copyOf(lines, lines.length * 2);
+            lines[teams.size()] = line;
+            teams.add(team);
+        }
+
+        @Override
+        public void error(int line, String message) {
+            errors.add(new LineError(line, message));
+        }
+    }
+
+    private final Path file;
+    private final ForkJoinPool pool;
+
+    ParallelTeamCsvLoader(Path file, ForkJoinPool pool) {
+        this.file = file;
+        this.pool = pool;
+    }
+
+    List<Chunk> load() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<Chunk> chunks = split(channel);
+
+            // pass 1: lines per chunk, then running totals give each chunk its first line
+            int[] lineCounts = new int[chunks.size()];
+            run(i -> lineCounts[i] = countLines(channel, chunks.get(i)), chunks.size());
+            int line = 1;
+            for (int i = 0; i < chunks.size(); i++) {
+                chunks.get(i).firstLine = line;
+                line += lineCounts[i];
+            }
+
+            // pass 2: parse
+            run(i -> parse(channel, chunks.get(i)), chunks.size());
+            return chunks;
+        }
+    }
+
+    // a few chunks per thread so an uneven chunk doesn't leave the others idle
+    private List<Chunk> split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int wanted = pool.getParallelism() * 4;
+        long target = Math.max(MIN_CHUNK, size / wanted + 1);
+
+        List<Chunk> chunks = new ArrayList<>();
+        long from = 0;
+        while (from < size) {
+            long to = from + target >= size ? size : afterNextNewline(channel, from + target, size);
+            chunks.add(new Chunk(from, to));
+            from = to;
+        }
+        return chunks;
+    }
+
+    private static long afterNextNewline(FileChannel channel, long pos, long size) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(8192);
+        while (pos < size) {
+            buf.clear();
+            int n = channel.read(buf, pos);
+            if (n <= 0) break;
+            for (int i = 0; i < n; i++) {
+                if (buf.get(i) == '\n') return pos + i + 1;
+            }
+            pos += n;
+        }
+        return size;
+    }
+
+    // counts line ends the way the readers do: "\n", "\r\n" and a lone "\r" each end one line
+    private static int countLines(FileChannel channel, Chunk chunk) throws IOException {
+        int lines = 0;
+        long pos = chunk.from;
+        byte prev = 0;
+        while (pos < chunk.to) {
+            int size = (int) Math.min(CHUNK_WINDOW, chunk.to - pos);
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, size);
+            for (int i = 0; i < size; i++) {
+                byte c = buf.get(i);
+                if (c == '\n' ? prev != '\r' : c == '\r') lines++;
+                prev = c;
+            }
+            pos += size;
+        }
+        return lines;
+    }
+
+    private static void parse(FileChannel channel, Chunk chunk) throws IOException {
+        try (MappedTeamCsvReader csv = new MappedTeamCsvReader(
+                channel, chunk.from, chunk.to, chunk.firstLine, CHUNK_WINDOW)) {
+            TeamList.readTeams(csv, chunk);
+        }
+    }
+
+    // ----- fork/join plumbing -----
+
+    private interface ChunkJob {
+        void run(int chunk) throws IOException;
+    }
+
+    private void run(ChunkJob job, int count) throws IOException {
+        if (count == 0) return;
+        try {
+            pool.invoke(new ChunkRange(job, 0, count));
+        } catch (UncheckedIOException e) {
+            // fork/join may rethrow a copy of the task's exception, so look down the cause chain
+            for (Throwable t = e; t != null; t = t.getCause()) {
+                if (t instanceof IOException) throw (IOException) t;
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("serial") // RecursiveAction makes it Serializable, but it only ever runs on the loader's pool
+    private static final class ChunkRange extends RecursiveAction {
+        private final ChunkJob job;
+        private final int from, to;
+
+        ChunkRange(ChunkJob job, int from, int to) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunkRange(job, from, mid), new ChunkRange(job, mid, to));
+                return;
+            }
+            try {
+                job.run(from);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package manager;
+
+/**
+ * RankChange - one team edit as seen on the leaderboards: where the team
+ * stood before and after, in its category and overall, and its score
+ * before and after. Ranks are 1-based. Sent to TeamList.RankListener.
+ */
+public final class RankChange {
+
+    private final long version;
+    private final int teamID;
+    private final String teamName;
+    private final String oldCategory, category;
+    private final int oldRank, newRank;
+    private final int oldOverallRank, newOverallRank;
+    private final double oldScore, newScore;
+
+    RankChange(long version, Team team, String oldCategory, int oldRank, int newRank,
+               int oldOverallRank, int newOverallRank, double oldScore, double newScore) {
+        this.version = version;
+        this.teamID = team.getTeamID();
+        this.teamName = team.getTeamName();
+        this.oldCategory = oldCategory;
+        this.category = team.getCategory();
+        this.oldRank = oldRank;
+        this.newRank = newRank;
+        this.oldOverallRank = oldOverallRank;
+        this.newOverallRank = newOverallRank;
+        this.oldScore = oldScore;
+        this.newScore = newScore;
+    }
+
+    /** The list's getVersion() right after the edit. */
+    public long getVersion() { return version; }
+    public int getTeamID() { return teamID; }
+    public String getTeamName() { return teamName; }
+    public String getOldCategory() { return oldCategory; }
+    public String getCategory() { return category; }
+    /** Rank in the old category before the edit. */
+    public int getOldRank() { return oldRank; }
+    /** Rank in the (possibly new) category after the edit. */
+    public int getNewRank() { return newRank; }
+    public int getOldOverallRank() { return oldOverallRank; }
+    public int getNewOverallRank() { return newOverallRank; }
+    public double getOldScore() { return oldScore; }
+    public double getNewScore() { return newScore; }
+
+    /** True if the team's score, category or either rank changed. */
+    public boolean isMove() {
+        return oldRank != newRank || oldOverallRank != newOverallRank
+                || oldScore != newScore || !oldCategory.equalsIgnoreCase(category);
+    }
+}
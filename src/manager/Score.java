@@ -20,6 +20,16 @@ public class Score {
         this.presentation = presentation;
     }
 
+    public Judge getJudge() { return judge; }
+    public Team getTeam() { return team; }
+    public int getCreativity() { return creativity; }
+    public int getTechnical() { return technical; }
+    public int getTeamwork() { return teamwork; }
+    public int getPresentation() { return presentation; }
+
+    // Same order as Team scores: [Creativity, Technical, Teamwork, Presentation]
+    public int[] getScoreArray() { return new int[]{creativity, technical, teamwork, presentation}; }
+
     public double calculateOverall() {
         return (creativity + technical + teamwork + presentation) / 4.0;
     }
@@ -0,0 +1,222 @@
+package manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * ScoreLedger - every judge's Score for every team, with each team's scores
+ * kept as the per-criterion average of its judges' entries.
+ *
+ * Entries are stored in flat primitive arrays (judge ID, team slot and the
+ * four criteria per entry) and found by (judge, team) through an
+ * open-addressing map, so a judge submitting again replaces their entry.
+ * Each team also has running per-criterion sums and a judge count, so a
+ * submission updates the team's average in O(1) and the team then gets
+ * those averages through setScores, which keeps TeamList's leaderboards,
+ * stats and journal in step. Nothing is ever rescanned.
+ *
+ * The ledger keeps the exact sums, so getAverageScores is exact. What the
+ * team gets through setScores is rounded half up to whole scores: Team, the
+ * CSV, the snapshot and the change log all hold int scores, and the
+ * leaderboards and stats are built on those. A team's overall score is
+ * therefore computed from rounded averages; its exact per-criterion averages
+ * are always available here.
+ * Methods are synchronized; a submission also takes the team's list lock
+ * (in setScores), always in that order.
+ */
+public final class ScoreLedger {
+
+    private static final int CRITERIA = ScoringStrategy.CRITERIA;
+
+    // entry e: judge entryJudges[e], team slot entrySlots[e], criteria entryScores[CRITERIA*e ...]
+    private int[] entryJudges = new int[64];
+    private int[] entrySlots = new int[64];
+    private int[] entryScores = new int[64 * CRITERIA];
+    private int[] nextForTeam = new int[64]; // next entry of the same team, -1 at the end
+    private int entryCount;
+
+    // per team slot, packed together so one submission touches one place:
+    // teamData[STRIDE*slot ...] = running sum per criterion, number of judges, first entry
+    private static final int STRIDE = CRITERIA + 2, JUDGES = CRITERIA, FIRST = CRITERIA + 1;
+    private long[] teamData = new long[16 * STRIDE];
+    private Team[] slotTeams = new Team[16];
+    private int teamCount;
+
+    private final LongIntMap entryIndex = new LongIntMap();   // (judgeID, teamID) -> entry
+    private final LongIntMap teamIndex = new LongIntMap();    // teamID -> team slot
+    private final HashMap<Integer, Judge> judges = new HashMap<>();
+
+    /**
+     * Records score, replacing any earlier entry by the same judge for the
+     * same team, and sets the team's scores to its judges' averages.
+     */
+    public synchronized void submit(Score score) {
+        Judge judge = score.getJudge();
+        Team team = score.getTeam();
+        int judgeID = judge.getStaffID();
+        int teamID = team.getTeamID();
+
+        int slot = teamIndex.get(teamID);
+        if (slot < 0) slot = addTeamSlot(teamID);
+        slotTeams[slot] = team;
+
+        int[] s = score.getScoreArray();
+        int t = slot * STRIDE;
+        long key = key(judgeID, teamID);
+        int e = entryIndex.get(key);
+        if (e < 0) {
+            judges.putIfAbsent(judgeID, judge);
+            e = addEntry(judgeID, slot);
+            entryIndex.put(key, e);
+            teamData[t + JUDGES]++;
+        } else {
+            for (int c = 0; c < CRITERIA; c++) teamData[t + c] -= entryScores[e * CRITERIA + c];
+        }
+        for (int c = 0; c < CRITERIA; c++) {
+            entryScores[e * CRITERIA + c] = s[c];
+            teamData[t + c] += s[c];
+        }
+
+        int[] rounded = roundedAverages(slot);
+        for (int c = 0; c < CRITERIA; c++) {
+            if (rounded[c] != team.getScore(c)) {
+                team.setScores(rounded);
+                break;
+            }
+        }
+    }
+
+    /** The team's exact per-criterion averages, or null if no judge has scored it. */
+    public synchronized double[] getAverageScores(int teamID) {
+        int slot = teamIndex.get(teamID);
+        if (slot < 0) return null;
+        int t = slot * STRIDE;
+        double[] average = new double[CRITERIA];
+        for (int c = 0; c < CRITERIA; c++) average[c] = (double) teamData[t + c] / teamData[t + JUDGES];
+        return average;
+    }
+
+    /** How many judges have scored the team. */
+    public synchronized int getJudgeCount(int teamID) {
+        int slot = teamIndex.get(teamID);
+        return slot < 0 ? 0 : (int) teamData[slot * STRIDE + JUDGES];
+    }
+
+    /** The score judgeID gave teamID, or null if there is none. */
+    public synchronized Score getScore(int judgeID, int teamID) {
+        int e = entryIndex.get(key(judgeID, teamID));
+        return e < 0 ? null : toScore(e);
+    }
+
+    /** Every judge's score for the team, most recently added judge first. */
+    public synchronized ArrayList<Score> getScores(int teamID) {
+        ArrayList<Score> list = new ArrayList<>();
+        int slot = teamIndex.get(teamID);
+        if (slot < 0) return list;
+        for (int e = (int) teamData[slot * STRIDE + FIRST]; e >= 0; e = nextForTeam[e]) list.add(toScore(e));
+        return list;
+    }
+
+    /** Number of (judge, team) entries. */
+    public synchronized int getEntryCount() { return entryCount; }
+
+    // ----- internals -----
+
+    private Score toScore(int e) {
+        int p = e * CRITERIA;
+        return new Score(judges.get(entryJudges[e]), slotTeams[entrySlots[e]],
+                entryScores[p], entryScores[p + 1], entryScores[p + 2], entryScores[p + 3]);
+    }
+
+    // per-criterion mean rounded half up (floorDiv so negative scores round the same way)
+    private int[] roundedAverages(int slot) {
+        int t = slot * STRIDE;
+        long n = teamData[t + JUDGES];
+        int[] average = new int[CRITERIA];
+        for (int c = 0; c < CRITERIA; c++) {
+            average[c] = (int) Math.floorDiv(2 * teamData[t + c] + n, 2 * n);
+        }
+        return average;
+    }
+
+    private int addTeamSlot(int teamID) {
+        if (teamCount == slotTeams.length) {
+            int cap = teamCount * 2;
+            slotTeams = Arrays.copyOf(slotTeams, cap);
+            teamData = Arrays.copyOf(teamData, cap * STRIDE);
+        }
+        teamData[teamCount * STRIDE + FIRST] = -1;
+        teamIndex.put(teamID, teamCount);
+        return teamCount++;
+    }
+
+    private int addEntry(int judgeID, int slot) {
+        if (entryCount == entryJudges.length) {
+            int cap = entryCount * 2;
+            entryJudges = Arrays.copyOf(entryJudges, cap);
+            entrySlots = Arrays.copyOf(entrySlots, cap);
+            entryScores = Arrays.copyOf(entryScores, cap * CRITERIA);
+            nextForTeam = Arrays.copyOf(nextForTeam, cap);
+        }
+        int e = entryCount++;
+        entryJudges[e] = judgeID;
+        entrySlots[e] = slot;
+        nextForTeam[e] = (int) teamData[slot * STRIDE + FIRST];
+        teamData[slot * STRIDE + FIRST] = e;
+        return e;
+    }
+
+    private static long key(int judgeID, int teamID) {
+        return ((long) judgeID << 32) | (teamID & 0xFFFFFFFFL);
+    }
+
+    // insert-only open-addressing map from a long key to a non-negative int; get() is -1 if absent.
+    // Key and value sit side by side in one array so a lookup costs one cache miss, not two.
+    private static final class LongIntMap {
+        private long[] table = new long[32]; // [key, value + 1] per slot, value 0 = empty
+        private int size;
+
+        int get(long key) {
+            int mask = table.length / 2 - 1;
+            for (int i = slot(key, mask); table[2 * i + 1] != 0; i = (i + 1) & mask) {
+                if (table[2 * i] == key) return (int) table[2 * i + 1] - 1;
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            int mask = table.length / 2 - 1;
+            int i = slot(key, mask);
+            while (table[2 * i + 1] != 0 && table[2 * i] != key) i = (i + 1) & mask;
+            if (table[2 * i + 1] == 0) {
+                if (size + 1 > (mask + 1) / 2) {
+                    rehash();
+                    put(key, value);
+                    return;
+                }
+                size++;
+            }
+            table[2 * i] = key;
+            table[2 * i + 1] = value + 1L;
+        }
+
+        private void rehash() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            int mask = table.length / 2 - 1;
+            for (int j = 0; j < old.length; j += 2) {
+                if (old[j + 1] == 0) continue;
+                int i = slot(old[j], mask);
+                while (table[2 * i + 1] != 0) i = (i + 1) & mask;
+                table[2 * i] = old[j];
+                table[2 * i + 1] = old[j + 1];
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package manager;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ScoringStrategy - how a category turns a team's four scores into its
+ * overall score, plus the registry that maps category names to strategies.
+ *
+ * Every strategy is the same final class: a precompiled weight vector and an
+ * optional "drop the highest and lowest score" step. The overall score is
+ * numerator(scores) / denominator(), both exact integers, so one call site
+ * serves every category and stays monomorphic: Team.getOverallScore, and the
+ * single pass over primitive score columns in ScoreColumns.stats, call the
+ * same final methods whatever the category.
+ *
+ * Built-in categories:
+ *   Cybersecurity            weighted mean, Technical (index 1) counts double
+ *   Artificial Intelligence  trimmed mean of the middle two scores
+ *   anything else            simple average
+ */
+public final class ScoringStrategy {
+
+    public static final int CRITERIA = 4;
+
+    public static final ScoringStrategy MEAN = weighted("Average", 1, 1, 1, 1);
+    public static final ScoringStrategy TRIMMED_MEAN = trimmed("Trimmed mean");
+    // Scores: [Creativity(0), Technical(1), Teamwork(2), Presentation(3)]
+    public static final ScoringStrategy CYBER_WEIGHTED = weighted("Technical x2", 1, 2, 1, 1);
+
+    private static final ConcurrentHashMap<String, ScoringStrategy> REGISTRY = new ConcurrentHashMap<>();
+    static {
+        register("Cybersecurity", CYBER_WEIGHTED);
+        register("Artificial Intelligence", TRIMMED_MEAN);
+    }
+
+    private final String name;
+    private final int w0, w1, w2, w3;
+    private final boolean trimExtremes;
+    private final int denominator;
+
+    private ScoringStrategy(String name, int[] weights, boolean trimExtremes) {
+        this.name = name;
+        this.w0 = weights[0];
+        this.w1 = weights[1];
+        this.w2 = weights[2];
+        this.w3 = weights[3];
+        this.trimExtremes = trimExtremes;
+        this.denominator = w0 + w1 + w2 + w3 - (trimExtremes ? 2 : 0);
+    }
+
+    /** Weighted mean of the four scores; weights must be non-negative with a positive total. */
+    public static ScoringStrategy weighted(String name, int... weights) {
+        if (weights.length != CRITERIA) throw new IllegalArgumentException("Expected " + CRITERIA + " weights");
+        int total = 0;
+        for (int w : weights) {
+            if (w < 0) throw new IllegalArgumentException("Negative weight");
+            total += w;
+        }
+        if (total == 0) throw new IllegalArgumentException("Weights must not all be zero");
+        return new ScoringStrategy(name, weights.clone(), false);
+    }
+
+    /** Average of the scores left after dropping one highest and one lowest. */
+    public static ScoringStrategy trimmed(String name) {
+        return new ScoringStrategy(name, new int[]{1, 1, 1, 1}, true);
+    }
+
+    // ---------------- Registry ----------------
+
+    /**
+     * Sets the strategy for a category (case-insensitive). Teams cache their
+     * overall score, so register strategies before teams are loaded.
+     */
+    public static void register(String category, ScoringStrategy strategy) {
+        REGISTRY.put(categoryKey(category), strategy);
+    }
+
+    /** The strategy registered for category, or MEAN if there is none. */
+    public static ScoringStrategy forCategory(String category) {
+        if (category == null) return MEAN;
+        ScoringStrategy s = REGISTRY.get(categoryKey(category));
+        return s != null ? s : MEAN;
+    }
+
+    /** How category names are compared: trimmed and case-insensitive (TeamList.createTeam matches on it too). */
+    static String categoryKey(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ---------------- Scoring ----------------
+
+    public String getName() { return name; }
+
+    /** Exact integer numerator of the overall score for four scores. */
+    public long numerator(int[] scores) {
+        return numerator(scores[0], scores[1], scores[2], scores[3]);
+    }
+
+    long numerator(int s0, int s1, int s2, int s3) {
+        long sum = (long) w0 * s0 + (long) w1 * s1 + (long) w2 * s2 + (long) w3 * s3;
+        if (trimExtremes) {
+            sum -= Math.min(Math.min(s0, s1), Math.min(s2, s3));
+            sum -= Math.max(Math.max(s0, s1), Math.max(s2, s3));
+        }
+        return sum;
+    }
+
+    public int denominator() { return denominator; }
+
+    public double score(int[] scores) {
+        return (double) numerator(scores) / denominator;
+    }
+
+    @Override
+    public String toString() { return name; }
+}
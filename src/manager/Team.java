@@ -6,13 +6,44 @@ import java.util.Objects; // Used for Objects.requireNonNull()
 public abstract class Team {
 
     private int teamID;
-    private String teamName;
-    private String university;
+    // volatile so threads reading without TeamList's lock see finished edits
+    private volatile String teamName;
+    private volatile String university;
     // Custom Attribute: HAS-A Relationship
     private Category categoryObject; 
 
     // Required Attribute: Array of Scores (4 scores)
-    protected int[] scores; 
+    protected volatile int[] scores; 
+    // In a columnar TeamList the scores live in its ScoreColumns at slot instead, and scores is null
+    private volatile ScoreColumns columns;
+    int slot;
+
+    // Overall score is derived from the scores and category; cached until either changes.
+    // The exact numerator/denominator are kept too so TeamStats can add and subtract scores exactly.
+    // The cache is one immutable object that remembers the scores array and category it was
+    // computed from, so a reader racing an edit can neither see half of it nor keep a stale one.
+    private volatile OverallScore overallScore;
+
+    private static final class OverallScore {
+        final int[] scores;
+        final String category;
+        final long numerator;
+        final int denominator;
+        final double value;
+
+        OverallScore(int[] scores, String category, long numerator, int denominator) {
+            this.scores = scores;
+            this.category = category;
+            this.numerator = numerator;
+            this.denominator = denominator;
+            this.value = (double) numerator / denominator;
+        }
+    }
+
+    // TeamList currently holding this team; told before/after every edit so its indexes stay in step
+    TeamList owner;
+    // position in owner's list, kept up to date by TeamList so removal needs no search
+    int listIndex;
 
   // Constructor requires Category object
     public Team(int teamID, String teamName, String university, Category categoryObj, int[] scores) {
@@ -26,7 +57,7 @@ public abstract class Team {
         if (scores == null || scores.length != 4) {
             this.scores = new int[]{0, 0, 0, 0};
         } else {
-            this.scores = scores;
+            this.scores = scores.clone();
         }
     }
 
@@ -36,30 +67,159 @@ public abstract class Team {
     public String getUniversity() { return university; }
     // 🌟 MODIFIED: Accesses the name from the Category object
     public String getCategory() { return categoryObject.getCategoryName(); }
-    public int[] getScoreArray() { return scores; }
+    // Returns a copy so callers can't change the scores behind the cached overall score
+    public int[] getScoreArray() {
+        int[] s = new int[4];
+        for (int i = 0; i < 4; i++) s[i] = getScore(i);
+        return s;
+    }
+
+    public int getScore(int index) {
+        int[] s = scores;
+        if (s == null) {
+            ScoreColumns c = columns;
+            if (c != null) return c.score(slot, index);
+            s = scores; // moved back out of the columns meanwhile
+        }
+        return s[index];
+    }
 
     // ---------------- Setters ----------------
-    public void setTeamName(String name) { this.teamName = name; }
-    public void setUniversity(String uni) { this.university = uni; }
+    public void setTeamName(String name) {
+        TeamList list = beforeChange();
+        try {
+            this.teamName = name;
+        } finally {
+            afterChange(list);
+        }
+    }
+    public void setUniversity(String uni) {
+        TeamList list = beforeChange();
+        try {
+            this.university = uni;
+        } finally {
+            afterChange(list);
+        }
+    }
     // 🌟 MODIFIED: Updates the name within the Category object
+    // Scoring follows the category name, not the class: a CyberTeam moved to
+    // "Artificial Intelligence" is scored with that category's trimmed mean from now on.
     public void setCategory(String catName) { 
-        this.categoryObject.setCategoryName(catName);
+        TeamList list = beforeChange();
+        try {
+            this.categoryObject.setCategoryName(catName);
+            ScoreColumns c = columns;
+            if (c != null) c.setCategory(slot, catName);
+        } finally {
+            afterChange(list);
+        }
     }
     
     public void setScores(int[] scores) { 
         if (scores.length == 4) {
-            this.scores = scores; 
+            int[] copy = scores.clone();
+            TeamList list = beforeChange();
+            try {
+                ScoreColumns c = columns;
+                if (c != null) c.setScores(slot, copy);
+                else this.scores = copy;
+            } finally {
+                afterChange(list);
+            }
+        }
+    }
+
+    /**
+     * Sets name, university, category and scores as a single edit, so the owning
+     * list locks, re-indexes and journals the team once instead of once per field.
+     * Scores are ignored unless there are exactly four, as in setScores.
+     */
+    public void update(String name, String uni, String catName, int[] scores) {
+        int[] copy = scores.length == 4 ? scores.clone() : null;
+        TeamList list = beforeChange();
+        try {
+            this.teamName = name;
+            this.university = uni;
+            this.categoryObject.setCategoryName(catName);
+            ScoreColumns c = columns;
+            if (c != null) c.setCategory(slot, catName);
+            if (copy != null) {
+                if (c != null) c.setScores(slot, copy);
+                else this.scores = copy;
+            }
+        } finally {
+            afterChange(list);
         }
     }
 
-    // ---------------- Abstract method ----------------
-    public abstract double getOverallScore();
+    // The owning list takes its write lock in teamChanging and releases it in teamChanged,
+    // so an edit and the index updates around it happen as one step for other threads.
+    private TeamList beforeChange() {
+        TeamList list = owner;
+        if (list != null) list.teamChanging(this);
+        return list;
+    }
+
+    private void afterChange(TeamList list) { if (list != null) list.teamChanged(this); }
+
+    // called by ScoreColumns under the list's write lock; columns is set before scores is dropped
+    // and scores is back before columns is cleared, so getScore always finds one of them
+    void attach(ScoreColumns columns, int slot) {
+        this.slot = slot;
+        this.columns = columns;
+        this.scores = null;
+    }
+
+    void detach(int[] scores) {
+        this.scores = scores;
+        this.columns = null;
+    }
+
+    // ---------------- Overall score ----------------
+    public final double getOverallScore() {
+        ScoreColumns c = columns;
+        return c != null ? c.overallScore(slot) : overallScore().value;
+    }
+
+    // overall score == scoreNumerator() / scoreDenominator(), both exact
+    final long scoreNumerator() {
+        ScoreColumns c = columns;
+        return c != null ? c.numerator(slot) : overallScore().numerator;
+    }
+
+    final int scoreDenominator() {
+        ScoreColumns c = columns;
+        return c != null ? c.denominator(slot) : overallScore().denominator;
+    }
+
+    /** The strategy this team's category is scored with. */
+    public ScoringStrategy getScoringStrategy() {
+        return ScoringStrategy.forCategory(getCategory());
+    }
+
+    private OverallScore overallScore() {
+        OverallScore score = overallScore;
+        int[] current = scores;
+        String category = getCategory();
+        if (current == null) {
+            // just attached to columns by another thread; work it out once without caching
+            ScoringStrategy strategy = ScoringStrategy.forCategory(category);
+            int[] s = getScoreArray();
+            return new OverallScore(s, category, strategy.numerator(s), strategy.denominator());
+        }
+        if (score == null || score.scores != current || score.category != category) {
+            ScoringStrategy strategy = ScoringStrategy.forCategory(category);
+            score = new OverallScore(current, category, strategy.numerator(current), strategy.denominator());
+            overallScore = score;
+        }
+        return score;
+    }
 
     // ---------------- Full details ----------------
     public String getFullDetails() {
         return "Team ID " + teamID + ", name " + teamName + " (" + university + ")\n" +
                 teamName + " is competing in the **" + getCategory() + "** category, and received scores " +
-                Arrays.toString(scores) + ", resulting in an overall score of " +
+                Arrays.toString(getScoreArray()) + ", resulting in an overall score of " +
                 String.format("%.2f", getOverallScore());
     }
 
@@ -0,0 +1,85 @@
+package manager;
+
+import java.io.*;
+
+/**
+ * TeamCsvReader - CsvTokenizer over a Reader, used by TeamList.loadFromCSV
+ * and to replay the change journal.
+ *
+ * Records are scanned straight out of a reusable char buffer and callers
+ * pull typed values with intField()/textField(), so a row only allocates
+ * the Strings that end up inside the Team.
+ */
+final class TeamCsvReader extends CsvTokenizer {
+
+    private final Reader in;
+    private char[] buf = new char[1 << 16];
+    private boolean eof;
+
+    TeamCsvReader(Reader in) {
+        super(1);
+        this.in = in;
+    }
+
+    @Override
+    int at(int i) { return buf[i]; }
+
+    /** Refills the buffer, keeping the current record at the front. */
+    @Override
+    int fill() throws IOException {
+        if (eof) return 0;
+        int shift = recordStart;
+        int keep = limit - recordStart;
+        if (keep == buf.length) { // a single record fills the buffer: grow it
+            char[] bigger = new char[buf.length * 2];
+            System.arraycopy(buf, 0, bigger, 0, keep);
+            buf = bigger;
+        } else if (shift > 0) {
+            System.arraycopy(buf, recordStart, buf, 0, keep);
+        }
+        limit = keep;
+        int n = in.read(buf, limit, buf.length - limit);
+        if (n <= 0) eof = true;
+        else limit += n;
+        return shift;
+    }
+
+    @Override
+    String text(int from, int to, boolean unescape) {
+        if (!unescape) return new String(buf, from, to - from);
+        StringBuilder sb = new StringBuilder(to - from);
+        for (int k = from; k < to; k++) {
+            char c = buf[k];
+            sb.append(c);
+            if (c == '"' && k + 1 < to && buf[k + 1] == '"') k++;
+        }
+        return sb.toString();
+    }
+
+    // compares against earlier values in place, so a repeated value allocates nothing
+    @Override
+    public String sharedTextField(int i) {
+        if (quoted[i] && escaped[i]) return textField(i);
+        int from = start[i], to = end[i];
+        if (!quoted[i]) {
+            while (from < to && buf[from] <= ' ') from++;
+            while (to > from && buf[to - 1] <= ' ') to--;
+        }
+        int len = to - from;
+        for (int s = 0; s < seenCount; s++) {
+            String v = seenValues[s];
+            if (v.length() != len) continue;
+            int k = 0;
+            while (k < len && v.charAt(k) == buf[from + k]) k++;
+            if (k == len) return v;
+        }
+        String v = new String(buf, from, len);
+        if (seenCount < seenValues.length) seenValues[seenCount++] = v;
+        return v;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,41 @@
+package manager;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * TeamCsvSource - a tokenized team CSV, one record at a time. TeamList turns
+ * records into teams the same way whichever reader produced them.
+ */
+interface TeamCsvSource extends Closeable {
+
+    /** Advances to the next record. Returns false at end of input. */
+    boolean next() throws IOException;
+
+    /** Physical line number the current record starts on. */
+    int line();
+
+    int fieldCount();
+
+    /** True if the input ended inside a quoted field. */
+    boolean isUnterminated();
+
+    /** True for a record holding nothing but whitespace. */
+    boolean isBlank();
+
+    /**
+     * True for a column heading: the record contains "team id" (any case), the
+     * rule loadFromCSV has always used, or its first field is the "teamID"
+     * heading saveToCSV writes.
+     */
+    boolean isHeader();
+
+    /** Field i as an int; throws NumberFormatException if it isn't one. */
+    int intField(int i);
+
+    /** Field i as text: unquoted fields are trimmed, quoted fields are unescaped verbatim. */
+    String textField(int i);
+
+    /** Like textField, but reuses the String from an earlier row with the same value. */
+    String sharedTextField(int i);
+}
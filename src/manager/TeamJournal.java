@@ -0,0 +1,221 @@
+package manager;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+
+/**
+ * TeamJournal - append-only change log kept next to the CSV snapshot
+ * ("HackathonTeams.csv" -> "HackathonTeams.csv.log").
+ *
+ * Every add, update and removal is appended as one CSV-style record:
+ *   A,teamID,teamName,university,category,s1,s2,s3,s4   (team added)
+ *   U,teamID,teamName,university,category,s1,s2,s3,s4   (team edited)
+ *   R,teamID                                            (team removed)
+ * Records are buffered and written + fsynced together by sync(), so saving
+ * an edit costs one small append instead of rewriting the whole CSV.
+ * TeamList compacts the log back into the snapshot once it grows.
+ * Replay is idempotent, so the log may be applied to any snapshot taken
+ * after the log was started (the CSV or a binary TeamSnapshot).
+ * Methods are synchronized: TeamList appends under its write lock and
+ * truncates under its read lock plus its save lock, which keeps out
+ * appends and every other save.
+ */
+final class TeamJournal implements Closeable {
+
+    // fsync at least this often even if nobody calls sync()
+    private static final int MAX_PENDING_RECORDS = 64;
+    // never compact a log shorter than this
+    private static final int MIN_COMPACT_RECORDS = 1000;
+
+    private final String csvFilename;
+    private final Path logPath;
+    private FileChannel channel;
+    private final StringBuilder pending = new StringBuilder();
+    private int pendingRecords;
+    private int loggedRecords;   // records in the log since the last compaction
+
+    private TeamJournal(String csvFilename, Path logPath) {
+        this.csvFilename = csvFilename;
+        this.logPath = logPath;
+    }
+
+    static Path logPathFor(String csvFilename) {
+        return Paths.get(csvFilename + ".log");
+    }
+
+    /**
+     * Replays the log for csvFilename onto list (which should already hold the
+     * snapshot), then opens the log for appending. The first skip records are
+     * already in the list (a TeamSnapshot says how many) and are not applied again,
+     * unless the log is now shorter than that, meaning it was compacted since.
+     * Replay problems are added to errors.
+     */
+    static TeamJournal open(String csvFilename, TeamList list, long skip, ArrayList<String> errors) throws IOException {
+        TeamJournal journal = new TeamJournal(csvFilename, logPathFor(csvFilename));
+        journal.channel = FileChannel.open(journal.logPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            journal.dropTornTail();
+            if (skip > 0 && journal.countRecords() < skip) skip = 0;
+            journal.loggedRecords = journal.replay(list, skip, errors);
+            journal.channel.position(journal.channel.size());
+        } catch (IOException e) {
+            journal.channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    String getCsvFilename() { return csvFilename; }
+
+    // ----- Writing -----
+
+    synchronized void added(Team t) { append('A', t); }
+
+    synchronized void updated(Team t) { append('U', t); }
+
+    synchronized void removed(Team t) {
+        pending.append("R,").append(t.getTeamID()).append('\n');
+        recordAppended();
+    }
+
+    private void append(char op, Team t) {
+        pending.append(op).append(',').append(t.getTeamID()).append(',')
+                .append(TeamList.escapeCsv(t.getTeamName())).append(',')
+                .append(TeamList.escapeCsv(t.getUniversity())).append(',')
+                .append(TeamList.escapeCsv(t.getCategory()));
+        for (int i = 0; i < 4; i++) pending.append(',').append(t.getScore(i));
+        pending.append('\n');
+        recordAppended();
+    }
+
+    private void recordAppended() {
+        pendingRecords++;
+        loggedRecords++;
+        if (pendingRecords >= MAX_PENDING_RECORDS) {
+            try {
+                sync();
+            } catch (IOException e) {
+                System.out.println("Error writing change log: " + e.getMessage());
+            }
+        }
+    }
+
+    /** Writes all buffered records and forces them to disk. */
+    synchronized void sync() throws IOException {
+        if (pendingRecords == 0) return;
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(pending.toString());
+        while (bytes.hasRemaining()) channel.write(bytes);
+        channel.force(false);
+        pending.setLength(0);
+        pendingRecords = 0;
+    }
+
+    /** Makes every record durable and returns how many the log now holds. */
+    synchronized long syncedRecords() throws IOException {
+        sync();
+        return loggedRecords;
+    }
+
+    /** True once the log holds more records than rewriting the snapshot would cost. */
+    synchronized boolean needsCompaction(int teamCount) {
+        return loggedRecords > Math.max(MIN_COMPACT_RECORDS, teamCount);
+    }
+
+    /** Empties the log; call only after a snapshot with every change has been written. */
+    synchronized void truncate() throws IOException {
+        pending.setLength(0);
+        pendingRecords = 0;
+        loggedRecords = 0;
+        channel.truncate(0);
+        channel.force(true);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // ----- Replay -----
+
+    // a crash mid-write can leave a partial last record; it was never synced, so drop it
+    private void dropTornTail() throws IOException {
+        long size = channel.size();
+        ByteBuffer one = ByteBuffer.allocate(1);
+        long end = size;
+        while (end > 0) {
+            one.clear();
+            channel.read(one, end - 1);
+            if (one.get(0) == '\n') break;
+            end--;
+        }
+        if (end < size) channel.truncate(end);
+    }
+
+    private int countRecords() throws IOException {
+        int records = 0;
+        try (TeamCsvReader csv = openReader()) {
+            while (csv.next()) if (!csv.isBlank()) records++;
+        }
+        return records;
+    }
+
+    private TeamCsvReader openReader() throws IOException {
+        return new TeamCsvReader(new InputStreamReader(Files.newInputStream(logPath), StandardCharsets.UTF_8));
+    }
+
+    private int replay(TeamList list, long skip, ArrayList<String> errors) throws IOException {
+        int records = 0;
+        try (TeamCsvReader csv = openReader()) {
+            int[] scores = new int[4];
+            while (csv.next()) {
+                if (csv.isBlank()) continue;
+                if (++records <= skip) continue;
+                int lineNum = csv.line();
+                String op = csv.textField(0);
+                try {
+                    int id = csv.intField(1);
+                    if (op.equals("R")) {
+                        Team t = list.getTeamByID(id);
+                        if (t != null) list.removeTeam(t);
+                        continue;
+                    }
+                    if (csv.fieldCount() < 9) {
+                        errors.add("Log line " + lineNum + ": Missing fields (expected 9, found " + csv.fieldCount() + ")");
+                        continue;
+                    }
+                    for (int i = 0; i < 4; i++) scores[i] = csv.intField(5 + i);
+                    String name = csv.textField(2);
+                    String uni = csv.textField(3);
+                    String cat = csv.sharedTextField(4);
+
+                    // every record carries the team's full state, so replaying a record the
+                    // snapshot already contains is harmless: an add for a known ID is an update
+                    Team t = list.getTeamByID(id);
+                    if (op.equals("A") && t == null) {
+                        list.addTeam(TeamList.createTeam(id, name, uni, cat, scores));
+                    } else if (op.equals("A") || op.equals("U")) {
+                        if (t == null) {
+                            errors.add("Log line " + lineNum + ": Update for unknown team ID " + id + ".");
+                            continue;
+                        }
+                        t.update(name, uni, cat, scores);
+                    } else {
+                        errors.add("Log line " + lineNum + ": Unknown record type '" + op + "'.");
+                    }
+                } catch (NumberFormatException nfe) {
+                    errors.add("Log line " + lineNum + ": Number format error.");
+                }
+            }
+        }
+        return records;
+    }
+}
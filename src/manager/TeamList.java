@@ -1,48 +1,340 @@
 package manager;
 
 import java.io.*;
+import java.nio.file.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * TeamList - stores teams, CSV load/save, stats, leaderboard.
+ *
+ * Safe to share between threads. One read/write lock guards the list and
+ * every index built on it: lookups, queries and saves share the read lock;
+ * adds, removals, loads and team edits (through Team's change hooks) take the
+ * write lock. Don't edit a team from inside a Progress or other callback
+ * that runs while the list holds its read lock.
  */
 public class TeamList {
 
-    private ArrayList<Team> teams;
-    private int nextTeamID;
+    /**
+     * Told about every change to the list, from the thread making it and while
+     * that thread holds the write lock: hand the event off and return, and
+     * don't call back into the list.
+     */
+    public interface RankListener {
+        /** A team in the list was edited. */
+        void rankChanged(RankChange change);
+
+        /** Teams were added, removed or the whole list replaced; version is getVersion() after it. */
+        void rosterChanged(long version);
+    }
+
+    // a single lock rather than stripes: every write touches several indexes and the journal together
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+    // one save at a time (CSV or snapshot), so saves can't race on the journal or the target file;
+    // always taken before lock, never while holding it
+    private final ReentrantLock saveLock = new ReentrantLock();
+
+    // teams[0 .. teamCount) in list order, copy-on-write: adding writes only past teamCount and
+    // removing copies the array if a view of it is out, so every TeamView stays valid without copying
+    private Team[] teams;
+    private int teamCount;
+    // true once a view of the current array was handed out; removing then copies instead of shifting
+    private boolean teamsShared;
+    // bumped by every add, removal and edit; see getVersion()
+    private volatile long version;
+    // view of the current version, made on first request after a change
+    private volatile TeamView view;
+    // primary-key index: teamID -> first team registered with that ID
+    private IntTeamMap teamsByID;
+    // later teams whose ID is already taken in teamsByID (a CSV may repeat IDs), in list order
+    private HashMap<Integer, ArrayDeque<Team>> shadowedByID = new HashMap<>();
+    // set while a load replaces the list, so listeners hear one rosterChanged instead of one per team
+    private boolean bulkLoading;
+    // duplicate-check index on case-folded (teamName, category)
+    private NameCategoryIndex teamsByNameCategory;
+    private final AtomicInteger nextTeamID = new AtomicInteger(1);
+    // change log for the CSV being edited, if openJournal() was called
+    private TeamJournal journal;
+    // change-log records the loaded snapshot already contains; openJournal skips them
+    private long journalRecordsLoaded;
+    // leaderboard order for all teams and per category (case-insensitive); built on first use
+    private LeaderboardIndex leaderboard;
+    private TreeMap<String, LeaderboardIndex> leaderboardsByCategory;
+    // count, score sum, histogram and category counts; built on first use like the leaderboards
+    private TeamStats stats;
+    // where the teams' scores live if the list was created with columnar scores, else null
+    private final ScoreColumns columns;
+    private final CopyOnWriteArrayList<RankListener> rankListeners = new CopyOnWriteArrayList<>();
+    // where the team being edited stood, taken by teamChanging for teamChanged's RankChange;
+    // changingCategory is null when nobody is listening
+    private String changingCategory;
+    private int changingRank, changingOverallRank;
+    private double changingScore;
 
     public TeamList() {
-        teams = new ArrayList<>();
-        nextTeamID = 1;
+        this(false);
     }
 
+    /**
+     * With columnarScores the list keeps every team's scores and category in
+     * primitive columns (see ScoreColumns) rather than one array per team, so
+     * a full stats pass is a sequential scan instead of a walk over every Team
+     * (about 4x faster at a million teams). It barely saves memory: the Team
+     * objects, names and categories stay. Teams read their scores from the
+     * columns while they are in the list and get their own array back when
+     * removed.
+     */
+    public TeamList(boolean columnarScores) {
+        teams = new Team[16];
+        teamsByID = new IntTeamMap();
+        teamsByNameCategory = new NameCategoryIndex();
+        columns = columnarScores ? new ScoreColumns() : null;
+    }
+
+    public boolean isColumnar() { return columns != null; }
+
     // ----- Basic management -----
     public void addTeam(Team team) {
-        teams.add(team);
-        nextTeamID = Math.max(nextTeamID, team.getTeamID() + 1);
+        writeLock.lock();
+        try {
+            if (teamCount == teams.length) {
+                teams = Arrays.copyOf(teams, teamCount * 2);
+                teamsShared = false;
+            }
+            team.listIndex = teamCount;
+            teams[teamCount++] = team;
+            changed();
+            team.owner = this;
+            if (columns != null) columns.attach(team);
+            if (!teamsByID.containsKey(team.getTeamID())) teamsByID.put(team.getTeamID(), team);
+            else shadowedByID.computeIfAbsent(team.getTeamID(), k -> new ArrayDeque<>()).add(team);
+            teamsByNameCategory.add(team);
+            addToLeaderboards(team);
+            if (stats != null) stats.add(team);
+            nextTeamID.accumulateAndGet(team.getTeamID() + 1, Math::max);
+            if (journal != null) journal.added(team);
+            fireRosterChanged();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     public void removeTeam(Team team) {
-        teams.remove(team);
+        writeLock.lock();
+        try {
+            if (team.owner != this) return;
+            int index = team.listIndex;
+            Team[] from = teams;
+            if (teamsShared) {
+                teams = new Team[from.length];
+                System.arraycopy(from, 0, teams, 0, index);
+                teamsShared = false;
+            }
+            // shifting the tail is the only O(n) step left: list order is kept, so it can't be avoided
+            for (int i = index + 1; i < teamCount; i++) {
+                Team t = from[i];
+                t.listIndex = i - 1;
+                teams[i - 1] = t;
+            }
+            teams[--teamCount] = null;
+            changed();
+            team.owner = null;
+            teamsByNameCategory.remove(team);
+            removeFromLeaderboards(team);
+            if (stats != null) stats.remove(team);
+            if (journal != null) journal.removed(team);
+            if (columns != null) columns.detach(team, team.slot);
+            int id = team.getTeamID();
+            ArrayDeque<Team> shadowed = shadowedByID.get(id);
+            if (teamsByID.get(id) == team) {
+                teamsByID.remove(id);
+                // promote the next team with the same ID so lookups still find it
+                if (shadowed != null) teamsByID.put(id, shadowed.poll());
+            } else if (shadowed != null) {
+                shadowed.remove(team);
+            }
+            if (shadowed != null && shadowed.isEmpty()) shadowedByID.remove(id);
+            fireRosterChanged();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     // Extracting the search method
     public Team getTeamByID(int id) {
-    // Required: Loop through the ArrayList to find the ID
-    for (Team t : teams) {
-        if (t.getTeamID() == id) {
-            return t;
+        readLock.lock();
+        try {
+            return teamsByID.get(id); // null if not found (invalid ID)
+        } finally {
+            readLock.unlock();
+        }
     }
+
+    // ----- Index maintenance (called by Team around every edit) -----
+    // teamChanging takes the write lock and teamChanged releases it; Team calls teamChanged
+    // whenever teamChanging returned normally. If teamChanging throws, it releases the lock itself.
+    void teamChanging(Team team) {
+        writeLock.lock();
+        try {
+            if (team.owner != this) return; // removed by another thread meanwhile
+            if (!rankListeners.isEmpty()) {
+                if (leaderboard == null) buildLeaderboards();
+                changingCategory = team.getCategory();
+                changingRank = leaderboardsByCategory.get(changingCategory).rankOf(team) + 1;
+                changingOverallRank = leaderboard.rankOf(team) + 1;
+                changingScore = team.getOverallScore();
+            }
+            teamsByNameCategory.remove(team);
+            removeFromLeaderboards(team);
+            if (stats != null) stats.remove(team);
+        } catch (RuntimeException | Error e) {
+            // the edit won't happen; drop what may be half-updated (it is rebuilt on demand)
+            changingCategory = null;
+            leaderboard = null;
+            leaderboardsByCategory = null;
+            stats = null;
+            writeLock.unlock();
+            throw e;
+        }
+    }
+
+    void teamChanged(Team team) {
+        String oldCategory = changingCategory;
+        changingCategory = null;
+        try {
+            if (team.owner != this) return;
+            teamsByNameCategory.add(team);
+            addToLeaderboards(team);
+            if (stats != null) stats.add(team);
+            if (journal != null) journal.updated(team);
+        } finally {
+            changed();
+            try {
+                if (oldCategory != null && team.owner == this) fireRankChanged(team, oldCategory);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /** Registers listener for rank moves and roster changes (see RankListener). */
+    public void addRankListener(RankListener listener) {
+        rankListeners.add(listener);
+    }
+
+    public void removeRankListener(RankListener listener) {
+        rankListeners.remove(listener);
+    }
+
+    // caller holds the write lock and has updated the leaderboards for team's edit
+    private void fireRankChanged(Team team, String oldCategory) {
+        RankChange change = new RankChange(version, team, oldCategory, changingRank,
+                leaderboardsByCategory.get(team.getCategory()).rankOf(team) + 1, changingOverallRank,
+                leaderboard.rankOf(team) + 1, changingScore, team.getOverallScore());
+        for (RankListener l : rankListeners) l.rankChanged(change);
+    }
+
+    private void fireRosterChanged() {
+        if (bulkLoading) return; // the load fires once when it is done
+        for (RankListener l : rankListeners) l.rosterChanged(version);
+    }
+
+    // caller holds the write lock; rosterChanged was held back while a whole list loaded
+    private void endBulkLoad() {
+        bulkLoading = false;
+        fireRosterChanged();
+    }
+
+    // caller holds the write lock
+    private void changed() {
+        version++;
+        view = null;
+    }
+
+    // the teams as of now, without copying; caller holds the lock
+    private TeamView snapshot() {
+        TeamView v = view;
+        if (v == null) {
+            teamsShared = true;
+            v = new TeamView(teams, teamCount, version);
+            view = v;
+        }
+        return v;
+    }
+
+    private void addToLeaderboards(Team team) {
+        if (leaderboard == null) return;
+        leaderboard.add(team);
+        LeaderboardIndex category = leaderboardsByCategory.get(team.getCategory());
+        if (category == null) {
+            category = new LeaderboardIndex();
+            leaderboardsByCategory.put(team.getCategory(), category);
+        }
+        category.add(team);
+    }
+
+    private void removeFromLeaderboards(Team team) {
+        if (leaderboard == null) return;
+        leaderboard.remove(team);
+        LeaderboardIndex category = leaderboardsByCategory.get(team.getCategory());
+        if (category != null && category.remove(team) && category.isEmpty()) {
+            leaderboardsByCategory.remove(team.getCategory());
+        }
+    }
+
+    // sorts once, then the indexes follow every add, remove and edit
+    private void buildLeaderboards() {
+        ArrayList<Team> sorted = new ArrayList<>(snapshot());
+        sorted.sort(LeaderboardIndex.ORDER);
+        TreeMap<String, ArrayList<Team>> byCategory = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Team t : sorted) byCategory.computeIfAbsent(t.getCategory(), k -> new ArrayList<>()).add(t);
+
+        leaderboardsByCategory = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, ArrayList<Team>> e : byCategory.entrySet()) {
+            leaderboardsByCategory.put(e.getKey(), LeaderboardIndex.build(e.getValue()));
+        }
+        leaderboard = LeaderboardIndex.build(sorted);
+    }
+
+    /**
+     * The teams in list order as of now: an immutable TeamView that shares the
+     * list's storage, so this is O(1) and never copies the roster. Later adds
+     * and removals don't show in it.
+     */
+    public TeamView getAllTeams() {
+        TeamView v = view;
+        if (v != null) return v;
+        readLock.lock();
+        try {
+            return snapshot();
+        } finally {
+            readLock.unlock();
+        }
     }
-    return null; // Return null if not found (invalid ID)
-}
 
-    public ArrayList<Team> getAllTeams() {
-        return new ArrayList<>(teams);
+    /**
+     * Goes up by at least one with every add, removal and team edit, so a
+     * caller holding results derived from an earlier version can tell they are stale.
+     */
+    public long getVersion() {
+        return version;
     }
 
+    /**
+     * The ID registerNewTeam will give the next team (e.g. to show in a form).
+     * Another thread may register first, so use registerNewTeam to actually claim it.
+     */
     public int generateNextTeamID() {
-        return nextTeamID;
+        return nextTeamID.get();
     }
 
     // ----- Registration -----
@@ -51,120 +343,403 @@ public class TeamList {
      * Returns true if added, false if duplicate.
      */
     public boolean registerTeam(Team newTeam) {
-        // check ID collision
-        if (getTeamByID(newTeam.getTeamID()) != null) return false;
-
-        // check duplicate teamName + category
-        for (Team t : teams) {
-            if (t.getTeamName().equalsIgnoreCase(newTeam.getTeamName())
-                    && t.getCategory().equalsIgnoreCase(newTeam.getCategory())) {
-                return false;
-            }
+        writeLock.lock(); // check and add as one step
+        try {
+            // check ID collision
+            if (teamsByID.containsKey(newTeam.getTeamID())) return false;
+
+            // check duplicate teamName + category
+            if (teamsByNameCategory.contains(newTeam.getTeamName(), newTeam.getCategory())) return false;
+
+            addTeam(newTeam);
+            return true;
+        } finally {
+            writeLock.unlock();
         }
+    }
 
-        addTeam(newTeam);
-        return true;
+    /**
+     * Registers a new team under a freshly generated ID. Returns the team, or
+     * null if a team with this name is already in the category.
+     */
+    public Team registerNewTeam(String name, String uni, String cat, int[] scores) {
+        writeLock.lock();
+        try {
+            if (teamsByNameCategory.contains(name, cat)) return null;
+            // addTeam moves nextTeamID past this one before the write lock is released
+            Team team = createTeam(nextTeamID.get(), name, uni, cat, scores);
+            return registerTeam(team) ? team : null;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     // ----- CSV Save/Load -----
+    // CSV files are read and written as UTF-8, whatever the platform charset.
+    // A row whose team ID is already loaded is reported ("Duplicate team ID") and skipped.
     public ArrayList<String> loadFromCSV(String filename) {
-        ArrayList<String> errors = new ArrayList<>();
-        teams.clear(); // keep same behaviour: replace list
-
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            int lineNum = 1;
+        writeLock.lock();
+        bulkLoading = true;
+        try {
+            ArrayList<String> errors = new ArrayList<>();
+            clearTeams(); // keep same behaviour: replace list
+
+            try (TeamCsvReader csv = new TeamCsvReader(new FileReader(filename, StandardCharsets.UTF_8))) {
+                readTeams(csv, errors);
+            } catch (FileNotFoundException fnfe) {
+                errors.add("FILE READ ERROR: '" + filename + "' not found. Using empty list.");
+            } catch (IOException ioe) {
+                errors.add("FILE READ ERROR: " + ioe.getMessage());
+            }
 
-            while ((line = br.readLine()) != null) {
-                // skip blank lines
-                if (line.trim().isEmpty()) { lineNum++; continue; }
+            return errors;
+        } finally {
+            endBulkLoad();
+            writeLock.unlock();
+        }
+    }
 
-                // optional header detection
-                if (lineNum == 1 && line.toLowerCase().contains("team id")) { lineNum++; continue; }
+    /**
+     * Same as loadFromCSV, but memory-maps the file and scans its UTF-8 bytes
+     * without decoding whole lines. Meant for very large imports.
+     */
+    public ArrayList<String> loadFromCSVMapped(String filename) {
+        writeLock.lock();
+        bulkLoading = true;
+        try {
+            ArrayList<String> errors = new ArrayList<>();
+            clearTeams();
+
+            try (MappedTeamCsvReader csv = new MappedTeamCsvReader(new File(filename).toPath())) {
+                readTeams(csv, errors);
+            } catch (NoSuchFileException | FileNotFoundException fnfe) {
+                errors.add("FILE READ ERROR: '" + filename + "' not found. Using empty list.");
+            } catch (IOException ioe) {
+                errors.add("FILE READ ERROR: " + ioe.getMessage());
+            }
 
-                String[] parts = line.split(",");
+            return errors;
+        } finally {
+            endBulkLoad();
+            writeLock.unlock();
+        }
+    }
 
-                if (parts.length < 8) {
-                    errors.add("Line " + lineNum + ": Missing fields (expected 8, found " + parts.length + ")");
-                    lineNum++;
-                    continue;
+    /**
+     * Parallel loadFromCSV: splits the file into chunks at line boundaries, parses
+     * them on a fork/join pool with the given number of threads, then adds the teams
+     * in file order. A repeated team ID is reported and skipped, as in loadFromCSV.
+     * Line numbers in errors are those of the whole file. Quoted fields must not contain
+     * line breaks, since chunks are cut at newlines. threads must be at least 1.
+     */
+    public ArrayList<String> loadFromCSVParallel(String filename, int threads) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be at least 1, got " + threads);
+        writeLock.lock();
+        bulkLoading = true;
+        try {
+            ArrayList<String> errors = new ArrayList<>();
+            clearTeams();
+
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                List<ParallelTeamCsvLoader.Chunk> chunks =
+                        new ParallelTeamCsvLoader(new File(filename).toPath(), pool).load();
+
+                ArrayList<ParallelTeamCsvLoader.LineError> lineErrors = new ArrayList<>();
+                for (ParallelTeamCsvLoader.Chunk chunk : chunks) {
+                    lineErrors.addAll(chunk.errors);
+                    for (int i = 0; i < chunk.teams.size(); i++) {
+                        Team t = chunk.teams.get(i);
+                        if (teamsByID.containsKey(t.getTeamID())) {
+                            lineErrors.add(new ParallelTeamCsvLoader.LineError(chunk.lines[i], duplicateID(t)));
+                        } else {
+                            addTeam(t);
+                        }
+                    }
                 }
+                lineErrors.sort(Comparator.comparingInt(e -> e.line)); // stable: keeps file order per line
+                for (ParallelTeamCsvLoader.LineError e : lineErrors) errors.add("Line " + e.line + ": " + e.message);
+            } catch (NoSuchFileException | FileNotFoundException fnfe) {
+                errors.add("FILE READ ERROR: '" + filename + "' not found. Using empty list.");
+            } catch (IOException ioe) {
+                errors.add("FILE READ ERROR: " + ioe.getMessage());
+            } finally {
+                pool.shutdown();
+            }
+
+            return errors;
+        } finally {
+            endBulkLoad();
+            writeLock.unlock();
+        }
+    }
+
+    public ArrayList<String> loadFromCSVParallel(String filename) {
+        return loadFromCSVParallel(filename, Runtime.getRuntime().availableProcessors());
+    }
 
-                try {
-                    int id = Integer.parseInt(parts[0].trim());
-                    String name = parts[1].trim();
-                    String uni = parts[2].trim();
-                    String cat = parts[3].trim();
-
-                    int[] scores = new int[4];
-                    for (int i = 0; i < 4; i++) scores[i] = Integer.parseInt(parts[4 + i].trim());
-
-                    // 🌟 MODIFICATION: Use subclasses based on category
-Team t;
-switch (cat.toLowerCase()) {
-    case "cybersecurity":
-                            t = new CyberTeam(id, name, uni, scores);
-        break;
-    case "artificial intelligence":
-                            t = new AITeam(id, name, uni, scores);
-        break;
-    default:
-                            // Fallback (simple average) for all other categories
-                         
-                            Category fallbackCat = new Category(0, cat, "General Category");
-                            t = new Team(id, name, uni, fallbackCat, scores) {
-            @Override
-            public double getOverallScore() {
-                return Arrays.stream(getScoreArray()).average().orElse(0.0);
+    // caller holds the write lock
+    private void clearTeams() {
+        closeJournal(); // the list is being replaced, so the old change log no longer applies
+        journalRecordsLoaded = 0;
+        for (int i = 0; i < teamCount; i++) {
+            teams[i].owner = null;
+            if (columns != null) columns.detach(teams[i], teams[i].slot);
+        }
+        if (columns != null) columns.clear();
+        teams = new Team[16];
+        teamCount = 0;
+        teamsShared = false;
+        changed();
+        teamsByID.clear();
+        shadowedByID.clear();
+        teamsByNameCategory.clear();
+        leaderboard = null;
+        leaderboardsByCategory = null;
+        stats = null;
+        fireRosterChanged();
+    }
+
+    // Receives what readTeams makes of each record
+    interface TeamSink {
+        void team(int line, Team team);
+        void error(int line, String message);
+    }
+
+    private void readTeams(TeamCsvSource csv, ArrayList<String> errors) throws IOException {
+        readTeams(csv, new TeamSink() {
+            @Override public void team(int line, Team team) {
+                // same ID collision check as registerTeam: the ID index holds one team per ID
+                if (teamsByID.containsKey(team.getTeamID())) error(line, duplicateID(team));
+                else addTeam(team);
             }
-        };
-        break;
-}
+            @Override public void error(int line, String message) { errors.add("Line " + line + ": " + message); }
+        });
+    }
 
-                    addTeam(t);
-                } catch (NumberFormatException nfe) {
-                    errors.add("Line " + lineNum + ": Number format error.");
-                } catch (Exception ex) {
-                    errors.add("Line " + lineNum + ": Unexpected error: " + ex.getMessage());
-                }
+    private static String duplicateID(Team team) {
+        return "Duplicate team ID " + team.getTeamID() + ".";
+    }
+
+    // turns every record into a team, reporting one error per bad line
+    static void readTeams(TeamCsvSource csv, TeamSink sink) throws IOException {
+        int[] scores = new int[4];
+
+        while (csv.next()) {
+            int lineNum = csv.line();
+
+            // skip blank lines
+            if (csv.isBlank()) continue;
+
+            // optional header detection: any first line containing "team id", or saveToCSV's "teamID,..."
+            if (lineNum == 1 && csv.isHeader()) continue;
 
-                lineNum++;
+            if (csv.isUnterminated()) {
+                sink.error(lineNum, "Unterminated quoted field.");
+                continue;
             }
 
-            // after loading, ensure nextTeamID is > max
-            int max = 0;
-            for (Team t : teams) max = Math.max(max, t.getTeamID());
-            nextTeamID = Math.max(nextTeamID, max + 1);
+            if (csv.fieldCount() < 8) {
+                sink.error(lineNum, "Missing fields (expected 8, found " + csv.fieldCount() + ")");
+                continue;
+            }
+
+            try {
+                int id = csv.intField(0);
+                for (int i = 0; i < 4; i++) scores[i] = csv.intField(4 + i);
+
+                String name = csv.textField(1);
+                String uni = csv.textField(2);
+                String cat = csv.sharedTextField(3);
 
-        } catch (FileNotFoundException fnfe) {
-            errors.add("FILE READ ERROR: '" + filename + "' not found. Using empty list.");
-        } catch (IOException ioe) {
-            errors.add("FILE READ ERROR: " + ioe.getMessage());
+                sink.team(lineNum, createTeam(id, name, uni, cat, scores));
+            } catch (NumberFormatException nfe) {
+                sink.error(lineNum, "Number format error.");
+            } catch (Exception ex) {
+                sink.error(lineNum, "Unexpected error: " + ex.getMessage());
+            }
         }
+    }
 
-        return errors;
+    /**
+     * Builds the Team for a category: CyberTeam and AITeam for the two built-in
+     * categories, GeneralTeam for anything else. Names are matched the way the
+     * ScoringStrategy registry matches them (trimmed, any case), so the class
+     * and the scoring always agree. Scoring follows the category's registered
+     * ScoringStrategy either way.
+     */
+    public static Team createTeam(int id, String name, String uni, String cat, int[] scores) {
+        switch (ScoringStrategy.categoryKey(cat)) {
+            case "cybersecurity": return new CyberTeam(id, name, uni, scores);
+            case "artificial intelligence": return new AITeam(id, name, uni, scores);
+            default: return new GeneralTeam(id, name, uni, cat, scores);
+        }
     }
 
+    /**
+     * Writes the full CSV snapshot. The file is written to a temporary name and
+     * then moved into place, so a crash never leaves a half-written snapshot.
+     * Saving over the journaled CSV also empties its change log. Saves run one
+     * at a time; edits wait until the file is in place.
+     */
     public void saveToCSV(String filename) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
-            // header
-            pw.println("teamID,teamName,university,category,score1,score2,score3,score4");
-            for (Team t : teams) {
-                int[] s = t.getScoreArray();
-                pw.printf("%d,%s,%s,%s,%d,%d,%d,%d%n",
-                        t.getTeamID(),
-                        escapeCsv(t.getTeamName()),
-                        escapeCsv(t.getUniversity()),
-                        escapeCsv(t.getCategory()), // Uses the string name from Team.getCategory()
-                        s[0], s[1], s[2], s[3]);
+        saveLock.lock();
+        readLock.lock();
+        Path tmp = null;
+        try {
+            Path target = Paths.get(filename);
+            tmp = AtomicFiles.tempFileFor(target);
+            try (FileOutputStream out = new FileOutputStream(tmp.toFile());
+                 PrintWriter pw = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)))) {
+                // header
+                pw.println("teamID,teamName,university,category,score1,score2,score3,score4");
+                for (Team t : snapshot()) {
+                    pw.printf("%d,%s,%s,%s,%d,%d,%d,%d%n",
+                            t.getTeamID(),
+                            escapeCsv(t.getTeamName()),
+                            escapeCsv(t.getUniversity()),
+                            escapeCsv(t.getCategory()), // Uses the string name from Team.getCategory()
+                            t.getScore(0), t.getScore(1), t.getScore(2), t.getScore(3));
+                }
+                pw.flush();
+                if (pw.checkError()) throw new IOException("write failed for " + tmp);
+                out.getFD().sync();
             }
+
+            AtomicFiles.replace(tmp, target);
+            tmp = null;
+            // no appends (write lock) and no other save (saveLock) can run meanwhile
+            if (journal != null && isJournaled(filename)) journal.truncate();
         } catch (IOException e) {
             System.out.println("Error saving CSV: " + e.getMessage());
+        } finally {
+            deleteQuietly(tmp);
+            readLock.unlock();
+            saveLock.unlock();
+        }
+    }
+
+    // removes a temp file left by a failed save
+    private static void deleteQuietly(Path tmp) {
+        if (tmp == null) return;
+        try {
+            Files.deleteIfExists(tmp);
+        } catch (IOException ignored) {
+            // nothing more to do; it has a unique name, so it won't get in the way of the next save
+        }
+    }
+
+    // ----- Binary snapshot -----
+    /**
+     * Writes a binary snapshot of the list (see TeamSnapshot) for fast startup.
+     * Scores must fit in a byte. CSV remains the interchange format. With the
+     * change log open, the snapshot notes how many of its records it contains,
+     * so the next start only replays what came after; the log itself is kept
+     * until the CSV is saved, because the CSV still needs it.
+     */
+    public void saveSnapshot(String filename) {
+        saveLock.lock();
+        readLock.lock();
+        try {
+            long journalRecords = journal != null ? journal.syncedRecords() : 0;
+            TeamSnapshot.write(snapshot(), journalRecords, Paths.get(filename));
+        } catch (IOException e) {
+            System.out.println("Error saving snapshot: " + e.getMessage());
+        } finally {
+            readLock.unlock();
+            saveLock.unlock();
+        }
+    }
+
+    /** Replaces the list with a binary snapshot written by saveSnapshot. Errors are returned like loadFromCSV's. */
+    public ArrayList<String> loadSnapshot(String filename) {
+        writeLock.lock();
+        bulkLoading = true;
+        try {
+            ArrayList<String> errors = new ArrayList<>();
+            clearTeams();
+
+            try {
+                journalRecordsLoaded = TeamSnapshot.read(Paths.get(filename), new TeamSink() {
+                    @Override public void team(int record, Team team) { addTeam(team); }
+                    @Override public void error(int record, String message) { errors.add("Record " + record + ": " + message); }
+                });
+            } catch (NoSuchFileException | FileNotFoundException fnfe) {
+                errors.add("FILE READ ERROR: '" + filename + "' not found. Using empty list.");
+            } catch (IOException ioe) {
+                clearTeams(); // never leave a half-read snapshot behind
+                errors.add("FILE READ ERROR: " + ioe.getMessage());
+            }
+
+            return errors;
+        } finally {
+            endBulkLoad();
+            writeLock.unlock();
+        }
+    }
+
+    // ----- Change log -----
+    /**
+     * Replays csvFilename's change log onto the teams already loaded from that CSV,
+     * then starts logging every add, edit and removal to it. Call syncJournal() after
+     * each user action instead of rewriting the CSV. Returns any replay errors.
+     */
+    public ArrayList<String> openJournal(String csvFilename) {
+        writeLock.lock();
+        try {
+            ArrayList<String> errors = new ArrayList<>();
+            long skip = journalRecordsLoaded;
+            closeJournal();
+            journalRecordsLoaded = 0;
+            try {
+                journal = TeamJournal.open(csvFilename, this, skip, errors);
+            } catch (IOException e) {
+                errors.add("CHANGE LOG ERROR: " + e.getMessage());
+            }
+            return errors;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Makes logged changes durable, compacting the log into the CSV once it outgrows it. */
+    public void syncJournal() {
+        saveLock.lock(); // may compact, i.e. save, so taken first like every save
+        writeLock.lock();
+        try {
+            if (journal == null) return;
+            journal.sync();
+            if (journal.needsCompaction(teamCount)) saveToCSV(journal.getCsvFilename());
+        } catch (IOException e) {
+            System.out.println("Error writing change log: " + e.getMessage());
+        } finally {
+            writeLock.unlock();
+            saveLock.unlock();
+        }
+    }
+
+    public void closeJournal() {
+        writeLock.lock();
+        try {
+            if (journal == null) return;
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.out.println("Error writing change log: " + e.getMessage());
+            }
+            journal = null;
+        } finally {
+            writeLock.unlock();
         }
     }
 
+    private boolean isJournaled(String filename) {
+        return Paths.get(filename).toAbsolutePath().normalize()
+                .equals(Paths.get(journal.getCsvFilename()).toAbsolutePath().normalize());
+    }
+
     // helper: minimal CSV escaping of commas
-    private String escapeCsv(String s) {
+    static String escapeCsv(String s) {
         if (s == null) return "";
         if (s.contains(",") || s.contains("\"")) {
             return "\"" + s.replace("\"", "\"\"") + "\"";
@@ -173,89 +748,191 @@ switch (cat.toLowerCase()) {
     }
 
     // ----- Reports & Stats -----
-    // Extracting the final report method
+    // Extracting the final report method; see TeamReport for writing it off the UI thread
     public void saveReport(String filename) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filename))) {
-            pw.println("=========================================");
-        pw.println("      Hackathon Final Report           ");
-            pw.println("=========================================\n");
-
-        // Required 1: Table of teams with full details
-            pw.println("=== 1. Full Teams Detail Table ===\n");
-            for (Team t : teams) pw.println(t.getFullDetails() + "\n");
-
-        // Required 2: Details of the team with the highest overall score
-            Team top = getHighestScoreTeam();
-            pw.println("\n=== 2. Team with Highest Score ===");
-            if (top != null) pw.println(top.getFullDetails() + "\n");
-            else pw.println("No teams available.");
-
-        // Required 3: Four other summary statistics (avg, min, max, total teams)
-            pw.println("\n=== 3. Summary Stats ===");
-            pw.println("Total Teams: " + teams.size());
-            pw.println("Average Overall Score: " + String.format("%.2f", getAverageScore()));
-            pw.println("Minimum Overall Score: " + String.format("%.2f", getMinOverallScore()));
-            pw.println("Maximum Overall Score: " + String.format("%.2f", getMaxOverallScore()));
-
-        // Required 4: Frequency report
-            pw.println("\n=== 4. Individual Score Frequency ===");
-            int[] freq = getScoreFrequency();
-            for (int i = 0; i < freq.length; i++) pw.println("Score " + i + ": " + freq[i] + " times awarded");
-
-            pw.println("\nReport Generation Complete.");
+        try {
+            TeamReport.of(this).writeTo(Paths.get(filename), null);
         } catch (IOException e) {
             System.out.println("ERROR SAVING REPORT: " + e.getMessage());
         }
     }
 
-   // Extracting the Score Frequency logic
+    // ----- Summary statistics (maintained incrementally, O(1) or O(log n) to read) -----
+
+    /**
+     * Takes the read lock, building the leaderboards and stats first if they
+     * haven't been yet. A read lock can't be upgraded, so the build happens
+     * under the write lock, which is then downgraded to a read lock.
+     * Must not be called while this thread already holds the read lock.
+     */
+    private void lockIndexed() {
+        readLock.lock();
+        if (leaderboard != null && stats != null) return;
+        readLock.unlock();
+        writeLock.lock();
+        try {
+            if (leaderboard == null) buildLeaderboards();
+            if (stats == null) stats = columns != null ? columns.stats() : TeamStats.of(snapshot());
+            readLock.lock();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int getTeamCount() {
+        readLock.lock();
+        try {
+            return teamCount;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // How often each individual score 0-5 was awarded
     public int[] getScoreFrequency() {
-    // Array to hold counts for scores 0 through 5
-        int[] freq = new int[6];
-        for (Team t : teams) {
-        // Iterates through all scores of all teams
-            for (int s : t.getScoreArray()) {
-            // Check boundaries (0-5)
-            if (s >= 0 && s <= 5) {
-                freq[s]++;
-            }
+        lockIndexed();
+        try {
+            return stats.getScoreFrequency();
+        } finally {
+            readLock.unlock();
         }
     }
-        return freq;
+
+    // Teams per category, categories in the order they were first seen
+    public Map<String, Integer> getCategoryCounts() {
+        lockIndexed();
+        try {
+            return stats.getCategoryCounts();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     public double getAverageScore() {
-        if (teams.isEmpty()) return 0;
-        double sum = 0;
-        for (Team t : teams) sum += t.getOverallScore();
-        return sum / teams.size();
+        lockIndexed();
+        try {
+            return stats.getAverageScore();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     public double getMinOverallScore() {
-        if (teams.isEmpty()) return 0;
-        double min = Double.MAX_VALUE;
-        for (Team t : teams) min = Math.min(min, t.getOverallScore());
-        return min;
+        lockIndexed();
+        try {
+            if (leaderboard.isEmpty()) return 0;
+            return leaderboard.get(leaderboard.size() - 1).getOverallScore();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     public double getMaxOverallScore() {
-        if (teams.isEmpty()) return 0;
-        double max = Double.MIN_VALUE;
-        for (Team t : teams) max = Math.max(max, t.getOverallScore());
-        return max;
+        lockIndexed();
+        try {
+            if (leaderboard.isEmpty()) return 0;
+            return leaderboard.get(0).getOverallScore();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Summary statistics computed afresh in one pass split across threads
+     * fork/join workers. The result is bit-identical to a single-threaded
+     * pass (threads <= 1). A columnar list always does one sequential scan
+     * of its columns instead.
+     */
+    public TeamStats computeStats(int threads) {
+        readLock.lock(); // the workers read teams; no edits meanwhile
+        try {
+            if (columns != null) return columns.stats();
+            if (threads <= 1) return TeamStats.of(snapshot());
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                return TeamStats.collect(snapshot(), pool);
+            } finally {
+                pool.shutdown();
+            }
+        } finally {
+            readLock.unlock();
+        }
     }
 
+    // Highest overall score; ties go to the lowest team ID
     public Team getHighestScoreTeam() {
-        if (teams.isEmpty()) return null;
-        Team best = teams.get(0);
-        for (Team t : teams) if (t.getOverallScore() > best.getOverallScore()) best = t;
-        return best;
+        lockIndexed();
+        try {
+            return leaderboard.get(0); // null if there are no teams
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /** All teams, highest overall score first (ties by teamID). */
+    public ArrayList<Team> getLeaderboard() {
+        return page(null, 0, Integer.MAX_VALUE);
     }
 
+    /** Teams in category (ignoring case), highest overall score first (ties by teamID). */
     public ArrayList<Team> getLeaderboardByCategory(String category) {
-        ArrayList<Team> list = new ArrayList<>();
-        for (Team t : teams) if (t.getCategory().equalsIgnoreCase(category)) list.add(t);
-        list.sort((a, b) -> Double.compare(b.getOverallScore(), a.getOverallScore()));
-        return list;
+        return page(category, 0, Integer.MAX_VALUE);
+    }
+
+    /** The k best teams in category (all teams if category is null); O(log n + k). */
+    public ArrayList<Team> topK(String category, int k) {
+        return page(category, 0, k);
+    }
+
+    /** Up to limit teams of the category leaderboard (all teams if category is null), from 0-based offset. */
+    public ArrayList<Team> page(String category, int offset, int limit) {
+        lockIndexed();
+        try {
+            LeaderboardIndex index = leaderboardFor(category);
+            if (index == null) return new ArrayList<>();
+            return offset <= 0 && limit >= index.size() ? index.toList() : index.range(offset, limit);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /** Number of teams on the category leaderboard (all teams if category is null). */
+    public int getLeaderboardSize(String category) {
+        lockIndexed();
+        try {
+            LeaderboardIndex index = leaderboardFor(category);
+            return index == null ? 0 : index.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /** 1-based rank of the team within its category, or -1 if no team has this ID; O(log n). */
+    public int rankOf(int teamID) {
+        lockIndexed();
+        try {
+            Team t = teamsByID.get(teamID);
+            if (t == null) return -1;
+            return leaderboardFor(t.getCategory()).rankOf(t) + 1;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /** 1-based rank of the team among all teams, or -1 if no team has this ID; O(log n). */
+    public int overallRankOf(int teamID) {
+        lockIndexed();
+        try {
+            Team t = teamsByID.get(teamID);
+            if (t == null) return -1;
+            return leaderboard.rankOf(t) + 1;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // null category means all teams; returns null for a category with no teams. Caller holds lockIndexed().
+    private LeaderboardIndex leaderboardFor(String category) {
+        return category == null ? leaderboard : leaderboardsByCategory.get(category);
     }
 }
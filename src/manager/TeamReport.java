@@ -0,0 +1,212 @@
+package manager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * TeamReport - streams the final report (HackathonReport.txt) for
+ * TeamList.saveReport.
+ *
+ * of() captures the roster and summary figures on the calling thread; writeTo()
+ * can then run on any thread (e.g. a SwingWorker) while the UI stays live.
+ * Text is built in one reused StringBuilder, overall scores are formatted by
+ * hand from their exact numerator/denominator, and bytes go out through a
+ * large buffer straight to a FileChannel. The output is the same text the old
+ * PrintWriter + getFullDetails() + String.format("%.2f") version produced.
+ */
+public final class TeamReport {
+
+    /** Told how many team rows have been written so far; called from the writing thread. */
+    public interface Progress {
+        void update(int written, int total);
+    }
+
+    private static final int FLUSH_CHARS = 64 << 10;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int PROGRESS_EVERY = 4096;
+
+    private final List<Team> teams;
+    private final Team top;
+    private final double average, min, max;
+    private final int[] frequency;
+
+    private TeamReport(List<Team> teams, Team top, double average, double min, double max, int[] frequency) {
+        this.teams = teams;
+        this.top = top;
+        this.average = average;
+        this.min = min;
+        this.max = max;
+        this.frequency = frequency;
+    }
+
+    /** Captures what the report needs from list. The roster is a snapshot, but edits to the teams in it can still show up. */
+    public static TeamReport of(TeamList list) {
+        return new TeamReport(list.getAllTeams(), list.getHighestScoreTeam(), list.getAverageScore(),
+                list.getMinOverallScore(), list.getMaxOverallScore(), list.getScoreFrequency());
+    }
+
+    /** Like of(list), but with the summary figures taken from stats (e.g. TeamList.computeStats). */
+    public static TeamReport of(TeamList list, TeamStats stats) {
+        return new TeamReport(list.getAllTeams(), stats.getHighestScoreTeam(), stats.getAverageScore(),
+                stats.getMinOverallScore(), stats.getMaxOverallScore(), stats.getScoreFrequency());
+    }
+
+    public int getTeamCount() { return teams.size(); }
+
+    /**
+     * Writes the report to file, replacing it. The text goes to a temporary file
+     * that is moved over file once complete, so the report is never seen half
+     * written. progress may be null.
+     */
+    public void writeTo(Path file, Progress progress) throws IOException {
+        Path tmp = AtomicFiles.tempFileFor(file);
+        try {
+            writeText(tmp, progress);
+            AtomicFiles.replace(tmp, file);
+        } finally {
+            Files.deleteIfExists(tmp); // only still there if the write or move failed
+        }
+        if (progress != null) progress.update(teams.size(), teams.size());
+    }
+
+    private void writeText(Path file, Progress progress) throws IOException {
+        String nl = System.lineSeparator(); // what PrintWriter.println used
+        try (Output out = new Output(file)) {
+            StringBuilder sb = out.text;
+            sb.append("=========================================").append(nl);
+            sb.append("      Hackathon Final Report           ").append(nl);
+            sb.append("=========================================\n").append(nl);
+
+            // Required 1: Table of teams with full details
+            sb.append("=== 1. Full Teams Detail Table ===\n").append(nl);
+            int total = teams.size();
+            for (int i = 0; i < total; i++) {
+                appendFullDetails(sb, teams.get(i));
+                sb.append('\n').append(nl);
+                out.flushIfFull();
+                if (progress != null && (i + 1) % PROGRESS_EVERY == 0) progress.update(i + 1, total);
+            }
+
+            // Required 2: Details of the team with the highest overall score
+            sb.append("\n=== 2. Team with Highest Score ===").append(nl);
+            if (top != null) {
+                appendFullDetails(sb, top);
+                sb.append('\n').append(nl);
+            } else {
+                sb.append("No teams available.").append(nl);
+            }
+
+            // Required 3: Four other summary statistics (avg, min, max, total teams)
+            sb.append("\n=== 3. Summary Stats ===").append(nl);
+            sb.append("Total Teams: ").append(total).append(nl);
+            sb.append("Average Overall Score: ").append(String.format("%.2f", average)).append(nl);
+            sb.append("Minimum Overall Score: ").append(String.format("%.2f", min)).append(nl);
+            sb.append("Maximum Overall Score: ").append(String.format("%.2f", max)).append(nl);
+
+            // Required 4: Frequency report
+            sb.append("\n=== 4. Individual Score Frequency ===").append(nl);
+            for (int i = 0; i < frequency.length; i++) {
+                sb.append("Score ").append(i).append(": ").append(frequency[i]).append(" times awarded").append(nl);
+            }
+
+            sb.append("\nReport Generation Complete.").append(nl);
+        }
+    }
+
+    // same text as Team.getFullDetails()
+    private static void appendFullDetails(StringBuilder sb, Team t) {
+        sb.append("Team ID ").append(t.getTeamID()).append(", name ").append(t.getTeamName())
+                .append(" (").append(t.getUniversity()).append(")\n")
+                .append(t.getTeamName()).append(" is competing in the **").append(t.getCategory())
+                .append("** category, and received scores [");
+        for (int i = 0; i < ScoringStrategy.CRITERIA; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(t.getScore(i));
+        }
+        sb.append("], resulting in an overall score of ");
+        appendTwoDecimals(sb, t.scoreNumerator(), t.scoreDenominator());
+    }
+
+    /**
+     * Appends numerator/denominator (denominator > 0) rounded half-up to two
+     * decimals, matching String.format("%.2f") of the same score.
+     */
+    static void appendTwoDecimals(StringBuilder sb, long numerator, int denominator) {
+        long magnitude = Math.abs(numerator);
+        long hundredths = (magnitude * 200 + denominator) / (2L * denominator);
+        if (numerator < 0) sb.append('-');
+        sb.append(hundredths / 100).append('.');
+        int fraction = (int) (hundredths % 100);
+        if (fraction < 10) sb.append('0');
+        sb.append(fraction);
+    }
+
+    // reusable text buffer drained through a charset encoder into a FileChannel
+    private static final class Output implements AutoCloseable {
+        final StringBuilder text = new StringBuilder(FLUSH_CHARS + 1024);
+        private final FileChannel channel;
+        // like PrintWriter, characters the charset can't encode become its replacement
+        private final CharsetEncoder encoder = Charset.defaultCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        // text is copied here first so the encoder gets an array-backed buffer (its fast path)
+        private char[] chars = new char[FLUSH_CHARS + 1024];
+
+        Output(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void flushIfFull() throws IOException {
+            if (text.length() >= FLUSH_CHARS) encode(false);
+        }
+
+        private void encode(boolean endOfInput) throws IOException {
+            int length = text.length();
+            if (chars.length < length) chars = new char[length];
+            text.getChars(0, length, chars, 0);
+            CharBuffer in = CharBuffer.wrap(chars, 0, length);
+            while (true) {
+                CoderResult result = encoder.encode(in, bytes, endOfInput);
+                if (result.isOverflow()) {
+                    drain();
+                } else if (result.isUnderflow()) {
+                    break;
+                } else {
+                    result.throwException();
+                }
+            }
+            // a lone high surrogate at the end waits for the rest of its pair
+            text.delete(0, in.position());
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) channel.write(bytes);
+            bytes.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                encode(true);
+                while (encoder.flush(bytes).isOverflow()) drain();
+                drain();
+                channel.force(false); // on disk before it replaces the old report
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
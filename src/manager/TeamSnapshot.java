@@ -0,0 +1,174 @@
+package manager;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * TeamSnapshot - versioned binary image of a TeamList for fast startup.
+ * CSV stays the interchange format; this is only a cache of it.
+ *
+ * Layout (big-endian):
+ *   header   magic "HMSB", version, team count, category count, string table size,
+ *            change-log records already included (long; version 2 on)
+ *   categories  one string-table offset per category ordinal
+ *   records  RECORD_SIZE bytes per team:
+ *            teamID (int), 4 scores (byte each), category ordinal (unsigned byte),
+ *            3 bytes padding, name offset (int), university offset (int)
+ *   strings  each entry is a length (int) followed by that many UTF-8 bytes;
+ *            equal strings (universities, categories) are stored once
+ *
+ * The change-log count lets startup skip the part of the CSV's log that the
+ * snapshot already contains instead of re-applying all of it.
+ */
+final class TeamSnapshot {
+
+    static final int MAGIC = 0x484D5342; // "HMSB"
+    static final int VERSION = 2;
+    private static final int V1_HEADER_SIZE = 20;
+    private static final int HEADER_SIZE = 28;
+    private static final int RECORD_SIZE = 20;
+    private static final int MAX_CATEGORIES = 256;
+
+    private TeamSnapshot() {}
+
+    static void write(List<Team> teams, long journalRecords, Path file) throws IOException {
+        StringTable strings = new StringTable();
+        LinkedHashMap<String, Integer> categories = new LinkedHashMap<>();
+
+        ByteBuffer records = ByteBuffer.allocate(teams.size() * RECORD_SIZE);
+        for (Team t : teams) {
+            Integer ordinal = categories.get(t.getCategory());
+            if (ordinal == null) {
+                if (categories.size() == MAX_CATEGORIES) throw new IOException("Too many categories for snapshot");
+                ordinal = categories.size();
+                categories.put(t.getCategory(), ordinal);
+            }
+            records.putInt(t.getTeamID());
+            for (int i = 0; i < 4; i++) {
+                int s = t.getScore(i);
+                if (s < Byte.MIN_VALUE || s > Byte.MAX_VALUE) {
+                    throw new IOException("Score " + s + " of team " + t.getTeamID() + " does not fit in a snapshot");
+                }
+                records.put((byte) s);
+            }
+            records.put((byte) (int) ordinal);
+            records.put((byte) 0).put((byte) 0).put((byte) 0);
+            records.putInt(strings.offsetOf(t.getTeamName()));
+            records.putInt(strings.offsetOf(t.getUniversity()));
+        }
+
+        int[] categoryOffsets = new int[categories.size()];
+        int c = 0;
+        for (String category : categories.keySet()) categoryOffsets[c++] = strings.offsetOf(category);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + categoryOffsets.length * 4);
+        header.putInt(MAGIC).putInt(VERSION).putInt(teams.size()).putInt(categoryOffsets.length).putInt(strings.size())
+                .putLong(journalRecords);
+        for (int offset : categoryOffsets) header.putInt(offset);
+
+        Path tmp = AtomicFiles.tempFileFor(file);
+        try {
+            try (FileOutputStream out = new FileOutputStream(tmp.toFile())) {
+                out.write(header.array());
+                out.write(records.array());
+                strings.writeTo(out);
+                out.getFD().sync();
+            }
+            AtomicFiles.replace(tmp, file);
+        } finally {
+            Files.deleteIfExists(tmp); // only still there if the write or move failed
+        }
+    }
+
+    /**
+     * Reads the whole file in one bulk read and hands every team to sink, in saved
+     * order. Returns the number of change-log records the snapshot includes.
+     */
+    static long read(Path file, TeamList.TeamSink sink) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (bytes.length < V1_HEADER_SIZE || in.getInt() != MAGIC) throw new IOException("Not a team snapshot: " + file);
+        int version = in.getInt();
+        if (version != 1 && version != VERSION) throw new IOException("Unsupported snapshot version " + version);
+        int headerSize = version == 1 ? V1_HEADER_SIZE : HEADER_SIZE;
+        if (bytes.length < headerSize) throw new IOException("Truncated or corrupt snapshot: " + file);
+        int count = in.getInt();
+        int categoryCount = in.getInt();
+        int stringBytes = in.getInt();
+        long journalRecords = version == 1 ? 0 : in.getLong();
+
+        // sizes come from the file, so work them out in long: a corrupt count must not wrap around
+        long recordsEnd = headerSize + categoryCount * 4L + count * (long) RECORD_SIZE;
+        if (count < 0 || categoryCount < 0 || stringBytes < 0 || journalRecords < 0
+                || recordsEnd + stringBytes != bytes.length) {
+            throw new IOException("Truncated or corrupt snapshot: " + file);
+        }
+        int recordsAt = headerSize + categoryCount * 4;
+        int stringsAt = (int) recordsEnd;
+
+        // decode the string table once; records then look strings up by offset
+        int[] offsets = new int[16];
+        String[] values = new String[16];
+        int n = 0;
+        for (int p = 0; p < stringBytes; ) {
+            int len = in.getInt(stringsAt + p);
+            if (len < 0 || p + 4 + len > stringBytes) throw new IOException("Corrupt string table: " + file);
+            if (n == offsets.length) {
+                offsets = Arrays.copyOf(offsets, n * 2);
+                values = Arrays.copyOf(values, n * 2);
+            }
+            offsets[n] = p;
+            values[n++] = new String(bytes, stringsAt + p + 4, len, StandardCharsets.UTF_8);
+            p += 4 + len;
+        }
+
+        String[] categories = new String[categoryCount];
+        for (int c = 0; c < categoryCount; c++) categories[c] = lookup(offsets, values, n, in.getInt());
+
+        int[] scores = new int[4];
+        for (int i = 0, r = recordsAt; i < count; i++, r += RECORD_SIZE) {
+            int id = in.getInt(r);
+            for (int s = 0; s < 4; s++) scores[s] = bytes[r + 4 + s];
+            int ordinal = bytes[r + 8] & 0xFF;
+            if (ordinal >= categoryCount) throw new IOException("Corrupt category in record " + (i + 1));
+            String name = lookup(offsets, values, n, in.getInt(r + 12));
+            String uni = lookup(offsets, values, n, in.getInt(r + 16));
+            sink.team(i + 1, TeamList.createTeam(id, name, uni, categories[ordinal], scores));
+        }
+        return journalRecords;
+    }
+
+    private static String lookup(int[] offsets, String[] values, int n, int offset) throws IOException {
+        int i = Arrays.binarySearch(offsets, 0, n, offset);
+        if (i < 0) throw new IOException("Corrupt string offset " + offset);
+        return values[i];
+    }
+
+    // de-duplicating string table builder
+    private static final class StringTable {
+        private final HashMap<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        int offsetOf(String s) {
+            if (s == null) s = "";
+            Integer offset = offsets.get(s);
+            if (offset != null) return offset;
+            offset = bytes.size();
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            bytes.write(utf8.length >>> 24);
+            bytes.write(utf8.length >>> 16);
+            bytes.write(utf8.length >>> 8);
+            bytes.write(utf8.length);
+            bytes.write(utf8, 0, utf8.length);
+            offsets.put(s, offset);
+            return offset;
+        }
+
+        int size() { return bytes.size(); }
+
+        void writeTo(OutputStream out) throws IOException { bytes.writeTo(out); }
+    }
+}
@@ -0,0 +1,217 @@
+package manager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * TeamStats - running totals behind the stats tab and the report: team
+ * count, the sum of overall scores, the individual score histogram and
+ * teams per category. All of it is collected in one pass over the teams and
+ * can then be kept up to date with add/remove as teams change, so reading
+ * it is O(1).
+ *
+ * Overall scores are summed exactly, as integer numerators grouped by their
+ * scoring denominator, so removing a team undoes adding it bit for bit and
+ * the average does not depend on the order teams were added in.
+ *
+ * Stats for disjoint runs of teams merge into the stats of the whole run,
+ * which is how collect() splits the work across a ForkJoinPool. The exact
+ * sums and the ordered merge make that result identical to a sequential pass.
+ * The highest/lowest team are tracked by add and merge only; once one of
+ * them is removed they are unknown (TeamList reads them from its
+ * leaderboard index instead).
+ */
+public final class TeamStats {
+
+    /** Individual scores 0..MAX_SCORE are counted by the frequency histogram. */
+    public static final int MAX_SCORE = 5;
+
+    private int count;
+    // sum of scoreNumerator() for the teams whose scoreDenominator() is denominators[i]
+    private int[] denominators = new int[4];
+    private long[] numeratorSums = new long[4];
+    private int denominatorCount;
+    private final int[] frequency = new int[MAX_SCORE + 1];
+    // teams per category name, in the order the categories were first seen
+    private final LinkedHashMap<String, Integer> categoryCounts = new LinkedHashMap<>();
+    // first and last team in LeaderboardIndex.ORDER; the earlier team wins exact ties
+    private Team highest, lowest;
+    private boolean extremesKnown = true;
+
+    // below this many teams a fork/join task just adds them up itself
+    private static final int MIN_SPLIT = 1 << 14;
+
+    TeamStats() {}
+
+    /** Collects stats for teams in one pass. */
+    static TeamStats of(Iterable<Team> teams) {
+        TeamStats stats = new TeamStats();
+        for (Team t : teams) stats.add(t);
+        return stats;
+    }
+
+    /**
+     * Stats from the totals of a column scan (ScoreColumns.stats): for each of
+     * categoryCount categories its team count, numerator sum and denominator,
+     * plus the score histogram and the extreme teams.
+     */
+    static TeamStats ofTotals(String[] categories, int[] counts, long[] numeratorSums, int[] denominators,
+                              int categoryCount, int[] frequency, Team highest, Team lowest) {
+        TeamStats stats = new TeamStats();
+        for (int i = 0; i < categoryCount; i++) {
+            if (counts[i] == 0) continue;
+            stats.count += counts[i];
+            stats.addScore(denominators[i], numeratorSums[i]);
+            stats.categoryCounts.put(categories[i], counts[i]);
+        }
+        System.arraycopy(frequency, 0, stats.frequency, 0, MAX_SCORE + 1);
+        stats.highest = highest;
+        stats.lowest = lowest;
+        return stats;
+    }
+
+    /**
+     * Collects stats for teams on pool, splitting the list with its spliterator.
+     * The result equals of(teams) exactly. teams must not change meanwhile.
+     */
+    static TeamStats collect(List<Team> teams, ForkJoinPool pool) {
+        return pool.invoke(new CollectTask(teams.spliterator()));
+    }
+
+    @SuppressWarnings("serial") // fork/join tasks are Serializable by inheritance only; never serialized
+    private static final class CollectTask extends RecursiveTask<TeamStats> {
+        private final Spliterator<Team> teams;
+
+        CollectTask(Spliterator<Team> teams) {
+            this.teams = teams;
+        }
+
+        @Override
+        protected TeamStats compute() {
+            Spliterator<Team> prefix;
+            if (teams.estimateSize() > MIN_SPLIT && (prefix = teams.trySplit()) != null) {
+                CollectTask left = new CollectTask(prefix);
+                left.fork();
+                TeamStats right = new CollectTask(teams).compute();
+                TeamStats stats = left.join();
+                stats.merge(right); // left then right keeps list order
+                return stats;
+            }
+            TeamStats stats = new TeamStats();
+            teams.forEachRemaining(stats::add);
+            return stats;
+        }
+    }
+
+    void add(Team t) {
+        count++;
+        if (extremesKnown) {
+            if (highest == null || LeaderboardIndex.ORDER.compare(t, highest) < 0) highest = t;
+            if (lowest == null || LeaderboardIndex.ORDER.compare(t, lowest) > 0) lowest = t;
+        }
+        addScore(t.scoreDenominator(), t.scoreNumerator());
+        for (int i = 0; i < ScoringStrategy.CRITERIA; i++) {
+            int s = t.getScore(i);
+            if (s >= 0 && s <= MAX_SCORE) frequency[s]++;
+        }
+        categoryCounts.merge(t.getCategory(), 1, Integer::sum);
+    }
+
+    /** Undoes add(t); t must still have the scores and category it was added with. */
+    void remove(Team t) {
+        count--;
+        addScore(t.scoreDenominator(), -t.scoreNumerator());
+        for (int i = 0; i < ScoringStrategy.CRITERIA; i++) {
+            int s = t.getScore(i);
+            if (s >= 0 && s <= MAX_SCORE) frequency[s]--;
+        }
+        Integer n = categoryCounts.get(t.getCategory());
+        if (n != null) {
+            if (n == 1) categoryCounts.remove(t.getCategory());
+            else categoryCounts.put(t.getCategory(), n - 1);
+        }
+        if (t == highest || t == lowest) {
+            extremesKnown = false;
+            highest = lowest = null;
+        }
+    }
+
+    /** Adds in the stats of teams that come after this run's teams. */
+    void merge(TeamStats other) {
+        count += other.count;
+        for (int i = 0; i < other.denominatorCount; i++) addScore(other.denominators[i], other.numeratorSums[i]);
+        for (int s = 0; s <= MAX_SCORE; s++) frequency[s] += other.frequency[s];
+        for (Map.Entry<String, Integer> e : other.categoryCounts.entrySet()) {
+            categoryCounts.merge(e.getKey(), e.getValue(), Integer::sum);
+        }
+        extremesKnown &= other.extremesKnown;
+        if (!extremesKnown) {
+            highest = lowest = null;
+        } else if (other.highest != null) {
+            if (highest == null || LeaderboardIndex.ORDER.compare(other.highest, highest) < 0) highest = other.highest;
+            if (lowest == null || LeaderboardIndex.ORDER.compare(other.lowest, lowest) > 0) lowest = other.lowest;
+        }
+    }
+
+    private void addScore(int denominator, long numerator) {
+        for (int i = 0; i < denominatorCount; i++) {
+            if (denominators[i] == denominator) {
+                numeratorSums[i] += numerator;
+                return;
+            }
+        }
+        if (denominatorCount == denominators.length) {
+            denominators = Arrays.copyOf(denominators, denominatorCount * 2);
+            numeratorSums = Arrays.copyOf(numeratorSums, denominatorCount * 2);
+        }
+        denominators[denominatorCount] = denominator;
+        numeratorSums[denominatorCount++] = numerator;
+    }
+
+    public int getCount() { return count; }
+
+    /** Sum of all overall scores. */
+    public double getScoreSum() {
+        // add the per-denominator parts smallest denominator first, so the result
+        // doesn't depend on which denominator happened to be seen first
+        double sum = 0;
+        int last = 0;
+        for (int k = 0; k < denominatorCount; k++) {
+            int next = -1;
+            for (int i = 0; i < denominatorCount; i++) {
+                if (denominators[i] > last && (next < 0 || denominators[i] < denominators[next])) next = i;
+            }
+            sum += (double) numeratorSums[next] / denominators[next];
+            last = denominators[next];
+        }
+        return sum;
+    }
+
+    public double getAverageScore() {
+        return count == 0 ? 0 : getScoreSum() / count;
+    }
+
+    /** Team with the highest overall score (lowest ID on ties); null if none or unknown. */
+    public Team getHighestScoreTeam() { return highest; }
+
+    /** Team with the lowest overall score (highest ID on ties); null if none or unknown. */
+    public Team getLowestScoreTeam() { return lowest; }
+
+    public double getMaxOverallScore() { return highest == null ? 0 : highest.getOverallScore(); }
+
+    public double getMinOverallScore() { return lowest == null ? 0 : lowest.getOverallScore(); }
+
+    /** How many times each individual score 0..MAX_SCORE was awarded. */
+    public int[] getScoreFrequency() { return frequency.clone(); }
+
+    /** Teams per category name, categories in the order they were first seen. */
+    public Map<String, Integer> getCategoryCounts() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(categoryCounts));
+    }
+}
@@ -0,0 +1,52 @@
+package manager;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * TeamView - read-only view of a TeamList's teams as of one version, returned
+ * by TeamList.getAllTeams().
+ *
+ * TeamList keeps its teams in a copy-on-write array: adding a team writes
+ * past the end of the array (or into a grown copy) and removing one copies
+ * the array once a view of it is out. Slots a view can see are never written
+ * again, so a view is just (array, size, version), costs O(1) to publish and
+ * can be iterated from any thread without locking or copying. The Team objects themselves are
+ * shared, so edits to a team do show through; compare getVersion() to
+ * TeamList.getVersion() to tell whether anything changed.
+ */
+public final class TeamView extends AbstractList<Team> implements RandomAccess {
+
+    private final Team[] teams;
+    private final int size;
+    private final long version;
+
+    TeamView(Team[] teams, int size, long version) {
+        this.teams = teams;
+        this.size = size;
+        this.version = version;
+    }
+
+    /** The TeamList version this view was taken at. */
+    public long getVersion() { return version; }
+
+    @Override
+    public Team get(int index) {
+        Objects.checkIndex(index, size);
+        return teams[index];
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public void forEach(Consumer<? super Team> action) {
+        for (int i = 0; i < size; i++) action.accept(teams[i]);
+    }
+
+    @Override
+    public Object[] toArray() { return Arrays.copyOf(teams, size, Object[].class); }
+}
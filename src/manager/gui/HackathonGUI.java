@@ -10,15 +10,20 @@ import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * HackathonGUI is the main JFrame for the Hackathon Management System.
  * It provides different views and functionalities based on the user's role.
  * - Judges can open the "Edit / Remove Team" tab but only edit scores.
  * - Add Team tab is shown only to users with modification rights (not Judge/Competitor/Public).
- * - Any anonymous Team creation provides getOverallScore() implementation to avoid abstract-class errors.
+ * - New teams are built with TeamList.createTeam, so scoring follows the category's ScoringStrategy.
  */
 public class HackathonGUI extends JFrame {
 
@@ -31,7 +36,19 @@ public class HackathonGUI extends JFrame {
 
     // References for the Teams Table tab
     private JTable teamTable;
-    private DefaultTableModel tableModel;
+    private TeamTableModel tableModel;
+    // Background thread for Teams Table sort/filter jobs, the job in flight and the newest job's number
+    // (transient: a live thread and task mean nothing in a serialized frame)
+    private final transient ExecutorService tableExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "team-table");
+        t.setDaemon(true);
+        return t;
+    });
+    private transient Future<?> tableJob;
+    private int tableGeneration;
+    // TeamList version and options of the newest table job; an identical refresh is skipped
+    private long tableVersion = -1;
+    private String tableSortBy, tableFilterBy;
     // Text area for displaying statistics and reports
     private JTextArea statsArea;
 
@@ -39,6 +56,20 @@ public class HackathonGUI extends JFrame {
     private JTable lbTable;
     private DefaultTableModel lbModel;
     private JComboBox<String> lbCatBox; // Dropdown for category filtering on leaderboard
+    // Leaderboard shows only the top rows; the Team ID search reports any team's rank
+    private static final int LEADERBOARD_ROWS = 100;
+
+    // Footer progress bar shown while a report is written in the background
+    private JProgressBar reportProgress;
+    // Report writes run one at a time, in the order they were asked for, so an older report
+    // never overwrites a newer one and Exit's write comes after any still in flight
+    // (transient: a live thread means nothing in a serialized frame)
+    private final transient ExecutorService reportExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "report-writer");
+        t.setDaemon(true);
+        return t;
+    });
+    private int reportsPending; // queued or running report writes; only touched on the EDT
 
     // Constructor: Initializes the GUI with team data and user context
     public HackathonGUI(TeamList teamList, Staff staff, String role) {
@@ -135,15 +166,20 @@ public class HackathonGUI extends JFrame {
                 // Deny permission for Judge/Public roles
                 JOptionPane.showMessageDialog(this, "You do not have permission to save reports.");
             } else {
-                teamList.saveReport("HackathonReport.txt"); // Save report to text file
-                JOptionPane.showMessageDialog(this, "Report saved.");
+                // Save report to text file off the UI thread
+                saveReportInBackground(() -> JOptionPane.showMessageDialog(this, "Report saved."));
             }
         });
 
         // Add action listener for Exit button (calls custom exit method)
         closeBtn.addActionListener(e -> exitAndSave());
 
+        reportProgress = new JProgressBar(0, 100);
+        reportProgress.setStringPainted(true);
+        reportProgress.setVisible(false);
+
         // Add buttons to the footer
+        footer.add(reportProgress);
         footer.add(saveCSV);
         footer.add(saveReport);
         footer.add(closeBtn);
@@ -166,23 +202,58 @@ public class HackathonGUI extends JFrame {
         int confirm = JOptionPane.showConfirmDialog(this,
                 "Exit program? Any unsaved CSV will be lost.", "Confirm Exit", JOptionPane.YES_NO_OPTION);
         if (confirm == JOptionPane.YES_OPTION) {
-            teamList.saveReport("HackathonReport.txt"); // Save report on exit
-            dispose(); // Close the frame
-            System.exit(0); // Exit the application
+            setEnabled(false); // No more edits while the report is written
+            // Save report on exit, then close
+            saveReportInBackground(() -> {
+                teamList.saveSnapshot("HackathonTeams.bin"); // Binary copy for a fast next start
+                teamList.closeJournal(); // Flush any pending change-log records
+                dispose(); // Close the frame
+                System.exit(0); // Exit the application
+            });
         }
     }
 
+    // Queues a write of HackathonReport.txt behind any earlier one, with progress in the footer,
+    // then runs 'then' (may be null) on the EDT
+    private void saveReportInBackground(Runnable then) {
+        TeamReport report = TeamReport.of(teamList); // captured here, on the EDT
+        if (reportsPending++ == 0) reportProgress.setValue(0);
+        reportProgress.setString("Writing report...");
+        reportProgress.setVisible(true);
+
+        SwingWorker<Void, Integer> worker = new SwingWorker<Void, Integer>() {
+            @Override protected Void doInBackground() throws Exception {
+                report.writeTo(Paths.get("HackathonReport.txt"),
+                        (written, total) -> publish(total == 0 ? 100 : (int) (100L * written / total)));
+                return null;
+            }
+
+            @Override protected void process(List<Integer> chunks) {
+                reportProgress.setValue(chunks.get(chunks.size() - 1));
+            }
+
+            @Override protected void done() {
+                if (--reportsPending == 0) reportProgress.setVisible(false); // still shown for a queued one
+                try {
+                    get();
+                } catch (InterruptedException | ExecutionException ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    System.out.println("ERROR SAVING REPORT: " + cause.getMessage());
+                }
+                if (then != null) then.run();
+            }
+        };
+        reportExecutor.execute(worker); // not execute(): SwingWorker's own pool would run writes side by side
+    }
+
     // ---------------- Teams Table ----------------
     // Creates the panel containing the main table view of teams
     private JPanel createTeamTablePanel() {
         JPanel panel = new JPanel(new BorderLayout(8, 8));
         panel.setBorder(new EmptyBorder(8, 8, 8, 8));
 
-        // Define the table model with columns, making cells non-editable
-        tableModel = new DefaultTableModel(new String[]{"ID", "Name", "University", "Category", "Scores", "Overall"}, 0) {
-            // make cells non-editable in table view
-            @Override public boolean isCellEditable(int row, int column) { return false; }
-        };
+        // Read-only model over the team list; cells are formatted only for visible rows
+        tableModel = new TeamTableModel();
         // Create the JTable with the model
         teamTable = new JTable(tableModel);
         teamTable.setFillsViewportHeight(true);
@@ -237,35 +308,31 @@ public class HackathonGUI extends JFrame {
     // Overloaded method to refresh the table with default sort/filter
     private void refreshTable() { refreshTable("Team ID", "All"); }
 
-    // Method to refresh and re-populate the team table based on sort and filter options
+    // Method to refresh and re-populate the team table based on sort and filter options.
+    // The filter + sort runs on tableExecutor; a newer refresh cancels one still running,
+    // and only the newest result is swapped into the table (on the EDT).
     private void refreshTable(String sortBy, String filterBy) {
-        // Get all teams and create a mutable list
-        List<Team> teams = new ArrayList<>(teamList.getAllTeams());
-        // Apply category filter if not "All"
-        if (!"All".equalsIgnoreCase(filterBy)) teams.removeIf(t -> !t.getCategory().equalsIgnoreCase(filterBy));
-
-        // Sort the list of teams based on the selected criteria
-        teams.sort((a, b) -> {
-            switch (sortBy) {
-                // Sorting logic for different columns
-                case "Team ID": return Integer.compare(a.getTeamID(), b.getTeamID());
-                case "Name": return a.getTeamName().compareToIgnoreCase(b.getTeamName());
-                case "Category": return a.getCategory().compareToIgnoreCase(b.getCategory());
-                // Sort Overall Score in descending order (highest score first)
-                case "Overall Score": return Double.compare(b.getOverallScore(), a.getOverallScore());
-                default: return 0; // Default: no change
+        TeamView teams = teamList.getAllTeams(); // immutable view, no copy
+        if (teams.getVersion() == tableVersion && sortBy.equals(tableSortBy) && filterBy.equals(tableFilterBy)) {
+            loadLeaderboard();
+            return; // nothing changed since the table was last queried
+        }
+        tableVersion = teams.getVersion();
+        tableSortBy = sortBy;
+        tableFilterBy = filterBy;
+        if (tableJob != null) tableJob.cancel(true);
+        int generation = ++tableGeneration;
+        tableJob = tableExecutor.submit(() -> {
+            try {
+                List<Team> rows = TeamTableQuery.run(teams, sortBy, filterBy);
+                SwingUtilities.invokeLater(() -> {
+                    if (generation == tableGeneration) tableModel.setTeams(rows);
+                });
+            } catch (InterruptedException cancelled) {
+                // superseded by a newer refresh
             }
         });
 
-        // Clear existing table rows
-        tableModel.setRowCount(0);
-        // Add sorted/filtered teams to the table model
-        for (Team t : teams) {
-            int[] s = t.getScoreArray();
-            tableModel.addRow(new Object[]{t.getTeamID(), t.getTeamName(), t.getUniversity(),
-                    t.getCategory(), Arrays.toString(s), String.format("%.2f", t.getOverallScore())});
-        }
-
         loadLeaderboard(); // keep leaderboard in sync with current data
     }
 
@@ -389,17 +456,17 @@ public class HackathonGUI extends JFrame {
                 Team t = teamList.getTeamByID(id);
                 if (t == null) { JOptionPane.showMessageDialog(this, "Team not found."); return; }
 
-                // Non-Judges update all fields; Judges only update scores
+                // Scores from spinners
+                int[] scores = {(Integer) s1.getValue(), (Integer) s2.getValue(), (Integer) s3.getValue(), (Integer) s4.getValue()};
+                // Non-Judges update all fields in one edit; Judges only update scores
                 if (!isJudge) {
-                    t.setTeamName(nameField.getText().trim());
-                    t.setUniversity(uniField.getText().trim());
-                    t.setCategory((String) catBox.getSelectedItem());
+                    t.update(nameField.getText().trim(), uniField.getText().trim(),
+                            (String) catBox.getSelectedItem(), scores);
+                } else {
+                    t.setScores(scores);
                 }
-                // Update scores from spinners
-                int[] scores = {(Integer) s1.getValue(), (Integer) s2.getValue(), (Integer) s3.getValue(), (Integer) s4.getValue()};
-                t.setScores(scores);
 
-                teamList.saveToCSV("HackathonTeams.csv"); // Save changes
+                teamList.syncJournal(); // Persist the change (appended to the change log)
                 refreshTable(); refreshStats(); // Update displays
                 JOptionPane.showMessageDialog(this, "Updated.");
             } catch (Exception ex) {
@@ -418,7 +485,7 @@ public class HackathonGUI extends JFrame {
                 int c = JOptionPane.showConfirmDialog(this, "Remove team " + t.getTeamName() + "?", "Confirm", JOptionPane.YES_NO_OPTION);
                 if (c == JOptionPane.YES_OPTION) {
                     teamList.removeTeam(t); // Remove the team
-                    teamList.saveToCSV("HackathonTeams.csv"); // Save changes
+                    teamList.syncJournal(); // Persist the change (appended to the change log)
                     refreshTable(); refreshStats(); // Update displays
                     JOptionPane.showMessageDialog(this, "Removed.");
                 }
@@ -487,7 +554,6 @@ public class HackathonGUI extends JFrame {
         // Add button action: Create and register the new team
         addBtn.addActionListener(e -> {
             try {
-                int id = teamList.generateNextTeamID();
                 String name = nameField.getText().trim();
                 String uni = uniField.getText().trim();
                 String cat = (String) catBox.getSelectedItem();
@@ -498,31 +564,14 @@ public class HackathonGUI extends JFrame {
                 }
                 int[] scores = {(Integer)s1.getValue(), (Integer)s2.getValue(), (Integer)s3.getValue(), (Integer)s4.getValue()};
 
-                Team t;
-                // Instantiate specific Team subclasses based on category for special score calculation
-                switch (cat.toLowerCase()) {
-                    case "cybersecurity":
-                        t = new CyberTeam(id, name, uni, scores);
-                        break;
-                    case "artificial intelligence":
-                        t = new AITeam(id, name, uni, scores);
-                        break;
-                    default:
-                        // Fallback: Create an anonymous subclass of Team with a default overall score calculation (simple average)
-                        Category fallbackCat = new Category(0, cat, "General Category");
-                        t = new Team(id, name, uni, fallbackCat, scores) {
-                            @Override public double getOverallScore() {
-                                return Arrays.stream(getScoreArray()).average().orElse(0.0);
-                            }
-                        };
-                        break;
-                }
+                // Category picks the Team subclass and its scoring strategy; the ID is assigned atomically
+                Team t = teamList.registerNewTeam(name, uni, cat, scores);
 
-                if (!teamList.registerTeam(t)) {
+                if (t == null) {
                     JOptionPane.showMessageDialog(this, "Team ID or team+category already exists.");
                     return;
                 }
-                teamList.saveToCSV("HackathonTeams.csv"); // Save new team
+                teamList.syncJournal(); // Persist the new team
                 refreshTable(); refreshStats(); // Update displays
                 JOptionPane.showMessageDialog(this, "Added team: " + name);
 
@@ -585,28 +634,18 @@ public class HackathonGUI extends JFrame {
                 result.setText("Team name and university required.");
                 return;
             }
-            int id = teamList.generateNextTeamID(); // Get next available ID
             int[] blank = {0,0,0,0}; // Initial blank scores
 
-            Team t;
-            // Instantiate specific Team subclasses based on category
-            switch (cat.toLowerCase()) {
-                case "cybersecurity": t = new CyberTeam(id, teamName, uni, blank); break;
-                case "artificial intelligence": t = new AITeam(id, teamName, uni, blank); break;
-                default:
-                    // Fallback to anonymous subclass for default scoring
-                    Category fallbackCat = new Category(0, cat, "General Category");
-                    t = new Team(id, teamName, uni, fallbackCat, blank) {
-                        @Override public double getOverallScore() { return Arrays.stream(getScoreArray()).average().orElse(0.0); }
-                    }; break;
-            }
+            // Category picks the Team subclass and its scoring strategy; the ID is assigned atomically
+            Team t = teamList.registerNewTeam(teamName, uni, cat, blank);
 
-            if (!teamList.registerTeam(t)) {
+            if (t == null) {
                 result.setText("Registration failed (duplicate).");
                 return;
             }
-            teamList.saveToCSV("HackathonTeams.csv"); // Save registered team
-            teamList.saveReport("HackathonReport.txt"); // Save report
+            int id = t.getTeamID();
+            teamList.syncJournal(); // Persist the registered team
+            saveReportInBackground(null); // Save report
             refreshTable(); refreshStats(); // Update displays
             result.setText("Registered. Assigned Team Number: " + id);
             // Clear input fields
@@ -669,12 +708,8 @@ public class HackathonGUI extends JFrame {
         String cat = (String) lbCatBox.getSelectedItem(); // Get selected category
         lbModel.setRowCount(0); // Clear existing rows
 
-        List<Team> teams = new ArrayList<>(teamList.getAllTeams());
-        // Filter teams by category if "All" is not selected
-        if (!"All".equalsIgnoreCase(cat)) teams.removeIf(t -> !t.getCategory().equalsIgnoreCase(cat));
-
-        // Sort teams by Overall Score in descending order (highest score first)
-        teams.sort((a, b) -> Double.compare(b.getOverallScore(), a.getOverallScore()));
+        // Top teams in leaderboard order (highest score first), all or for the selected category
+        List<Team> teams = teamList.topK("All".equalsIgnoreCase(cat) ? null : cat, LEADERBOARD_ROWS);
 
         // Populate the leaderboard table
         int rank = 1;
@@ -718,7 +753,9 @@ public class HackathonGUI extends JFrame {
                 Team team = teamList.getTeamByID(id);
                 if (team != null) {
                     // Display short details in a dialog
-                    JOptionPane.showMessageDialog(panel, team.getShortDetails(), "Team Short Details", JOptionPane.INFORMATION_MESSAGE);
+                    String rank = "Rank " + teamList.rankOf(id) + " of " + teamList.getLeaderboardSize(team.getCategory())
+                            + " in " + team.getCategory();
+                    JOptionPane.showMessageDialog(panel, team.getShortDetails() + "\n" + rank, "Team Short Details", JOptionPane.INFORMATION_MESSAGE);
                 } else {
                     JOptionPane.showMessageDialog(panel, "Team ID not found!", "Error", JOptionPane.ERROR_MESSAGE);
                 }
@@ -733,16 +770,15 @@ public class HackathonGUI extends JFrame {
     // ---------------- Refresh Stats ----------------
     // Method to calculate and display general hackathon statistics
     private void refreshStats() {
-        int total = teamList.getAllTeams().size(); // Get total number of teams
-        // Calculate team count per category
-        Map<String, Long> catCounts = new LinkedHashMap<>();
-        for (Team t : teamList.getAllTeams()) catCounts.put(t.getCategory(), catCounts.getOrDefault(t.getCategory(), 0L) + 1);
+        int total = teamList.getTeamCount(); // Get total number of teams
+        // Team count per category, kept up to date by TeamList
+        Map<String, Integer> catCounts = teamList.getCategoryCounts();
 
         // Format statistics into a string
         StringBuilder sb = new StringBuilder();
         sb.append("Total teams: ").append(total).append("\n\n");
         sb.append("Teams per Category:\n");
-        for (Map.Entry<String, Long> e : catCounts.entrySet()) sb.append(String.format("  %s: %d\n", e.getKey(), e.getValue()));
+        for (Map.Entry<String, Integer> e : catCounts.entrySet()) sb.append(String.format("  %s: %d\n", e.getKey(), e.getValue()));
 
         // Update the statistics text area
         statsArea = (statsArea == null) ? new JTextArea() : statsArea;
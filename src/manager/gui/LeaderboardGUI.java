@@ -11,6 +11,7 @@ public class LeaderboardGUI extends JFrame {
     private JTable table;
     private DefaultTableModel tableModel;
     private JComboBox<String> categoryCombo;
+    private static final int MAX_ROWS = 100; // only the top of the leaderboard is shown
 
     public LeaderboardGUI(TeamList teamList) {
         this.teamList = teamList;
@@ -53,7 +54,7 @@ public class LeaderboardGUI extends JFrame {
 
     public void loadLeaderboard() {
         String category = (String) categoryCombo.getSelectedItem();
-        ArrayList<Team> rankedTeams = teamList.getLeaderboardByCategory(category);
+        ArrayList<Team> rankedTeams = teamList.topK(category, MAX_ROWS);
 
         tableModel.setRowCount(0);
         int rank = 1;
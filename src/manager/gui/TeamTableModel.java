@@ -0,0 +1,58 @@
+package manager.gui;
+
+import manager.Team;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TeamTableModel - read-only table model over a list of teams for the
+ * Teams Table tab. Cells are formatted only when JTable asks for them, i.e.
+ * for the rows on screen, and replacing the list fires a single change event.
+ */
+@SuppressWarnings("serial") // Serializable only through AbstractTableModel; Swing models here are never serialized
+class TeamTableModel extends AbstractTableModel {
+
+    private static final String[] COLUMNS = {"ID", "Name", "University", "Category", "Scores", "Overall"};
+
+    private List<Team> teams = new ArrayList<>();
+
+    /** Shows teams (in the given order); the model keeps the list, so don't change it afterwards. */
+    public void setTeams(List<Team> teams) {
+        this.teams = teams;
+        fireTableDataChanged();
+    }
+
+    public Team getTeamAt(int row) { return teams.get(row); }
+
+    @Override public int getRowCount() { return teams.size(); }
+
+    @Override public int getColumnCount() { return COLUMNS.length; }
+
+    @Override public String getColumnName(int column) { return COLUMNS[column]; }
+
+    @Override public boolean isCellEditable(int row, int column) { return false; }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Team t = teams.get(row);
+        switch (column) {
+            case 0: return t.getTeamID();
+            case 1: return t.getTeamName();
+            case 2: return t.getUniversity();
+            case 3: return t.getCategory();
+            case 4: {
+                // same text as Arrays.toString(getScoreArray()), without copying the array
+                StringBuilder sb = new StringBuilder(16).append('[');
+                for (int i = 0; i < 4; i++) {
+                    if (i > 0) sb.append(", ");
+                    sb.append(t.getScore(i));
+                }
+                return sb.append(']').toString();
+            }
+            case 5: return String.format("%.2f", t.getOverallScore());
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package manager.gui;
+
+import manager.Team;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * TeamTableQuery - the filter + sort behind the Teams Table tab, written to
+ * run on a background thread.
+ *
+ * Sort keys are computed once per team up front (case-folded name/category,
+ * the cached overall score, or teamID packed with the row position for a
+ * primitive sort) so the sort itself only compares keys. The sort
+ * is stable and orders exactly as the old compareToIgnoreCase/getOverallScore
+ * comparator did. The thread's interrupt flag is checked every few thousand
+ * rows, sorting included, so a cancelled query stops early with
+ * InterruptedException.
+ */
+final class TeamTableQuery {
+
+    private static final int CHECK_EVERY = 4096;
+
+    private TeamTableQuery() {}
+
+    // a team with its precomputed sort key
+    private static final class Row {
+        final Team team;
+        final String text;
+        final double number;
+
+        Row(Team team, String text, double number) {
+            this.team = team;
+            this.text = text;
+            this.number = number;
+        }
+    }
+
+    /** Teams in category filterBy ("All" for every team), sorted by sortBy as named in the Sort box. */
+    static List<Team> run(List<Team> teams, String sortBy, String filterBy) throws InterruptedException {
+        boolean all = "All".equalsIgnoreCase(filterBy);
+        ArrayList<Team> matching = new ArrayList<>(all ? teams.size() : 16);
+        for (int i = 0; i < teams.size(); i++) {
+            if (i % CHECK_EVERY == 0) checkInterrupted();
+            Team t = teams.get(i);
+            if (all || t.getCategory().equalsIgnoreCase(filterBy)) matching.add(t);
+        }
+
+        checkInterrupted();
+        switch (sortBy) {
+            case "Team ID": return sortByID(matching);
+            case "Name":
+            case "Category": return sortByText(matching, sortBy.equals("Name"));
+            case "Overall Score": return sortByScore(matching);
+            default: return matching; // unknown choice: keep list order
+        }
+    }
+
+    // (teamID, position) packed in one long, so a primitive sort is also stable
+    private static List<Team> sortByID(ArrayList<Team> teams) throws InterruptedException {
+        int n = teams.size();
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) keys[i] = ((long) teams.get(i).getTeamID() << 32) | i;
+        Arrays.sort(keys); // a primitive sort is quick enough (~60 ms for 1M keys) not to split
+        checkInterrupted();
+        ArrayList<Team> result = new ArrayList<>(n);
+        for (long key : keys) result.add(teams.get((int) key));
+        return result;
+    }
+
+    private static List<Team> sortByText(ArrayList<Team> teams, boolean byName) throws InterruptedException {
+        // categories repeat, so their folded keys are shared
+        HashMap<String, String> folded = new HashMap<>();
+        Row[] rows = new Row[teams.size()];
+        for (int i = 0; i < rows.length; i++) {
+            if (i % CHECK_EVERY == 0) checkInterrupted();
+            Team t = teams.get(i);
+            String key = byName ? fold(t.getTeamName()) : folded.computeIfAbsent(t.getCategory(), TeamTableQuery::fold);
+            rows[i] = new Row(t, key, 0);
+        }
+        sort(rows, (a, b) -> a.text.compareTo(b.text));
+        return teamsOf(rows);
+    }
+
+    // Overall Score in descending order (highest score first)
+    private static List<Team> sortByScore(ArrayList<Team> teams) throws InterruptedException {
+        Row[] rows = new Row[teams.size()];
+        for (int i = 0; i < rows.length; i++) {
+            if (i % CHECK_EVERY == 0) checkInterrupted();
+            rows[i] = new Row(teams.get(i), null, teams.get(i).getOverallScore());
+        }
+        sort(rows, (a, b) -> Double.compare(b.number, a.number));
+        return teamsOf(rows);
+    }
+
+    /**
+     * Arrays.sort (stable, like List.sort) with the interrupt flag checked every
+     * CHECK_EVERY comparisons, so a cancelled query doesn't wait for a long sort.
+     */
+    private static void sort(Row[] rows, Comparator<Row> order) throws InterruptedException {
+        checkInterrupted();
+        try {
+            Arrays.sort(rows, new Comparator<Row>() {
+                private int compares;
+
+                @Override
+                public int compare(Row a, Row b) {
+                    if (++compares % CHECK_EVERY == 0 && Thread.interrupted()) throw new Cancelled();
+                    return order.compare(a, b);
+                }
+            });
+        } catch (Cancelled e) {
+            throw new InterruptedException();
+        }
+    }
+
+    // unwinds Arrays.sort once the query is interrupted; the half-sorted rows are dropped
+    @SuppressWarnings("serial") // thrown and caught inside sort(), never serialized
+    private static final class Cancelled extends RuntimeException {
+        Cancelled() {
+            super(null, null, false, false); // no stack trace needed
+        }
+    }
+
+    private static List<Team> teamsOf(Row[] rows) throws InterruptedException {
+        checkInterrupted();
+        ArrayList<Team> result = new ArrayList<>(rows.length);
+        for (Row r : rows) result.add(r.team);
+        return result;
+    }
+
+    // folds case the way compareToIgnoreCase does, so plain compareTo gives the same order
+    private static String fold(String s) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) throw new InterruptedException();
+    }
+}
@@ -1,13 +1,55 @@
 package manager;
 
 import manager.gui.LoginGUI;
+import manager.server.LeaderboardServer;
 import javax.swing.*;
+import java.io.File;
+import java.io.IOException;
 
 public class main {
     public static void main(String[] args) {
 
+        // --server [port]: no GUI, just serve the leaderboard as JSON
+        // --with-server [port]: the GUI as usual, and edits made in it are pushed to /events
+        boolean headless = args.length > 0 && args[0].equals("--server");
+        boolean serve = headless || (args.length > 0 && args[0].equals("--with-server"));
+        int port = 8080;
+        if (serve && args.length > 1) {
+            try {
+                port = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                port = -1;
+            }
+            if (port < 0 || port > 65535) {
+                System.out.println("Usage: main [--server | --with-server] [port 0-65535]");
+                return;
+            }
+        }
+
         TeamList list = new TeamList();
-        list.loadFromCSV("HackathonTeams.csv");
+        // the binary snapshot is only a cache of the CSV: use it unless the CSV was saved after it
+        File csv = new File("HackathonTeams.csv");
+        File snapshot = new File("HackathonTeams.bin");
+        boolean snapshotFresh = snapshot.isFile() && snapshot.lastModified() >= csv.lastModified();
+        if (!snapshotFresh || !list.loadSnapshot(snapshot.getPath()).isEmpty()) {
+            list.loadFromCSV(csv.getPath());
+        }
+        list.openJournal("HackathonTeams.csv"); // replay edits made since the last full save
+
+        if (serve) {
+            // respond without waiting on delayed ACKs (see LeaderboardServer); must be set before the first server
+            if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+                System.setProperty("sun.net.httpserver.nodelay", "true");
+            }
+            try {
+                LeaderboardServer server = new LeaderboardServer(list, port);
+                server.start();
+                System.out.println("Leaderboard server running on http://localhost:" + server.getPort() + "/leaderboard");
+            } catch (IOException e) {
+                System.out.println("Could not start server: " + e.getMessage());
+            }
+            if (headless) return;
+        }
 
         // Create staff objects with default IDs and Names
         Admin admin = new Admin(1, new Name("Default", "Admin"));
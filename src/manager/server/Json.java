@@ -0,0 +1,69 @@
+package manager.server;
+
+import manager.ScoringStrategy;
+import manager.Team;
+
+/**
+ * Json - the few JSON pieces the server writes, appended straight into a
+ * StringBuilder. No library is needed for flat objects of strings and numbers.
+ */
+final class Json {
+
+    private Json() {}
+
+    /** Appends s as a quoted JSON string (null becomes null). */
+    static StringBuilder string(StringBuilder sb, String s) {
+        if (s == null) return sb.append("null");
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append("\\u00");
+                        sb.append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"');
+    }
+
+    /** A team as {"id":..,"name":..,"university":..,"category":..,"scores":[..],"overall":..}, plus rank if rank > 0. */
+    static StringBuilder team(StringBuilder sb, Team t, int rank) {
+        return team(sb, t, rank, 0);
+    }
+
+    /** Same as team(sb, t, rank), plus "overallRank" at the end if overallRank > 0. */
+    static StringBuilder team(StringBuilder sb, Team t, int rank, int overallRank) {
+        sb.append('{');
+        if (rank > 0) sb.append("\"rank\":").append(rank).append(',');
+        sb.append("\"id\":").append(t.getTeamID());
+        string(sb.append(",\"name\":"), t.getTeamName());
+        string(sb.append(",\"university\":"), t.getUniversity());
+        string(sb.append(",\"category\":"), t.getCategory());
+        sb.append(",\"scores\":[");
+        for (int i = 0; i < ScoringStrategy.CRITERIA; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(t.getScore(i));
+        }
+        number(sb.append("],\"overall\":"), t.getOverallScore());
+        if (overallRank > 0) sb.append(",\"overallRank\":").append(overallRank);
+        return sb.append('}');
+    }
+
+    /** A finite double as a JSON number, non-finite ones as null. */
+    static StringBuilder number(StringBuilder sb, double d) {
+        return Double.isFinite(d) ? sb.append(d) : sb.append("null");
+    }
+
+    static String error(String message) {
+        return string(new StringBuilder("{\"error\":"), message).append('}').toString();
+    }
+}
@@ -0,0 +1,248 @@
+package manager.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import manager.RankChange;
+import manager.TeamList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * LeaderboardEvents - the /events Server-Sent Events stream. Instead of
+ * polling /leaderboard, a client fetches it once and then applies the
+ * deltas pushed here:
+ *
+ *   event: rank    data: {"version","id","name","category","oldCategory",
+ *                         "from","to","overallFrom","overallTo","score","oldScore"}
+ *   event: reset   data: {"version"}   teams were added/removed/reloaded: fetch again
+ *
+ * Each stream starts with a reset carrying the current version (a rank
+ * event may come just before it; the fetch the reset asks for covers it),
+ * and every event has the list version as its SSE id.
+ *
+ * TeamList calls the listener under its write lock, so that only queues the
+ * change. One dispatcher thread turns it into bytes once (a burst of changes
+ * into one block) and queues those on every subscriber; each subscriber is
+ * then written by a task on the server's executor, so a slow client holds up
+ * only its own stream and always gets events in order. A client that falls
+ * MAX_BACKLOG writes behind is dropped and can reconnect: its write task is
+ * interrupted, which closes the connection under a write that is stuck on it.
+ */
+final class LeaderboardEvents implements TeamList.RankListener {
+
+    private static final int MAX_BACKLOG = 1024;
+    private static final long HEARTBEAT_MILLIS = 15_000;
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+    private static final Object RESET = new Object();
+
+    private final TeamList teams;
+    private final Executor executor;
+    private final LinkedBlockingQueue<Object> pending = new LinkedBlockingQueue<>();
+    // set while a reset is queued, so a bulk load queues one instead of one per team
+    private final AtomicBoolean resetQueued = new AtomicBoolean();
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    LeaderboardEvents(TeamList teams, Executor executor) {
+        this.teams = teams;
+        this.executor = executor;
+        dispatcher = new Thread(this::dispatch, "leaderboard-events");
+        dispatcher.setDaemon(true);
+    }
+
+    void start() {
+        teams.addRankListener(this);
+        dispatcher.start();
+    }
+
+    void stop() {
+        running = false;
+        teams.removeRankListener(this);
+        dispatcher.interrupt();
+        for (Subscriber s : subscribers) s.close();
+    }
+
+    // ----- TeamList.RankListener (called under the list's write lock) -----
+
+    @Override
+    public void rankChanged(RankChange change) {
+        if (change.isMove()) pending.add(change);
+    }
+
+    @Override
+    public void rosterChanged(long version) {
+        if (resetQueued.compareAndSet(false, true)) pending.add(RESET);
+    }
+
+    // ----- Streams -----
+
+    /** Takes over the exchange as a new event stream; it stays open until the client goes away. */
+    void subscribe(HttpExchange ex) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        ex.getResponseHeaders().set("Cache-Control", "no-cache");
+        ex.sendResponseHeaders(200, 0); // chunked, no length
+        Subscriber s = new Subscriber(ex);
+        s.send(("retry: 2000\n\n").getBytes(StandardCharsets.US_ASCII));
+        // subscribed before the version is read, so no change after it can be missed
+        subscribers.add(s);
+        s.send(reset(teams.getVersion()));
+    }
+
+    private void dispatch() {
+        ArrayList<Object> batch = new ArrayList<>();
+        ByteArrayOutputStream frames = new ByteArrayOutputStream();
+        while (running) {
+            Object next;
+            try {
+                next = pending.poll(HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            byte[] frame;
+            if (next == null) {
+                frame = HEARTBEAT; // also finds clients that went away quietly
+            } else {
+                // whatever queued up meanwhile goes out together: one write per subscriber per burst
+                batch.add(next);
+                pending.drainTo(batch);
+                frames.reset();
+                for (Object o : batch) {
+                    if (o == RESET) {
+                        resetQueued.set(false);
+                        frames.writeBytes(reset(teams.getVersion()));
+                    } else {
+                        frames.writeBytes(rank((RankChange) o));
+                    }
+                }
+                batch.clear();
+                frame = frames.toByteArray();
+            }
+            for (Subscriber s : subscribers) s.send(frame);
+        }
+    }
+
+    private static byte[] reset(long version) {
+        return ("id: " + version + "\nevent: reset\ndata: {\"version\":" + version + "}\n\n")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] rank(RankChange c) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("id: ").append(c.getVersion()).append("\nevent: rank\ndata: {\"version\":").append(c.getVersion());
+        sb.append(",\"id\":").append(c.getTeamID());
+        Json.string(sb.append(",\"name\":"), c.getTeamName());
+        Json.string(sb.append(",\"category\":"), c.getCategory());
+        Json.string(sb.append(",\"oldCategory\":"), c.getOldCategory());
+        sb.append(",\"from\":").append(c.getOldRank()).append(",\"to\":").append(c.getNewRank());
+        sb.append(",\"overallFrom\":").append(c.getOldOverallRank()).append(",\"overallTo\":").append(c.getNewOverallRank());
+        Json.number(sb.append(",\"score\":"), c.getNewScore());
+        Json.number(sb.append(",\"oldScore\":"), c.getOldScore());
+        return sb.append("}\n\n").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // one open stream; frames queue here and a single task at a time writes them out
+    private final class Subscriber implements Runnable {
+        private final HttpExchange exchange;
+        private final OutputStream out;
+        private final ArrayDeque<byte[]> backlog = new ArrayDeque<>();
+        private boolean writing; // a write task is queued or running
+        private Thread writer;   // the thread running it, once it has started
+        private boolean closed;
+
+        Subscriber(HttpExchange exchange) {
+            this.exchange = exchange;
+            this.out = exchange.getResponseBody();
+        }
+
+        void send(byte[] frame) {
+            synchronized (this) {
+                if (closed) return;
+                if (backlog.size() == MAX_BACKLOG) {
+                    drop(); // stops the write task that is stuck on it, which closes the exchange
+                    return;
+                }
+                backlog.add(frame);
+                if (writing) return;
+                writing = true;
+            }
+            try {
+                executor.execute(this);
+            } catch (RuntimeException e) { // executor shut down
+                synchronized (this) {
+                    drop();
+                }
+                exchange.close();
+            }
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                writer = Thread.currentThread();
+            }
+            try {
+                write();
+            } finally {
+                synchronized (this) {
+                    writer = null;
+                }
+                Thread.interrupted(); // a drop may have interrupted us; don't leave it on a pooled thread
+            }
+        }
+
+        private void write() {
+            while (true) {
+                byte[] frame;
+                boolean last;
+                synchronized (this) {
+                    if (closed) break;
+                    frame = backlog.poll();
+                    if (frame == null) {
+                        writing = false;
+                        return;
+                    }
+                    last = backlog.isEmpty();
+                }
+                try {
+                    out.write(frame);
+                    if (last) out.flush(); // one flush per burst
+                } catch (IOException e) {
+                    synchronized (this) {
+                        drop();
+                    }
+                    break;
+                }
+            }
+            exchange.close();
+        }
+
+        void close() {
+            boolean idle;
+            synchronized (this) {
+                if (closed) return;
+                drop();
+                idle = !writing; // otherwise the write task closes it
+            }
+            if (idle) exchange.close();
+        }
+
+        // caller holds this. A write blocked on a client that stopped reading would never
+        // return; interrupting it closes the socket channel under it, so the task can finish.
+        private void drop() {
+            closed = true;
+            backlog.clear();
+            subscribers.remove(this);
+            if (writer != null && writer != Thread.currentThread()) writer.interrupt();
+        }
+    }
+}
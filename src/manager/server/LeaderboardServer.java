@@ -0,0 +1,236 @@
+package manager.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import manager.Team;
+import manager.TeamList;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * LeaderboardServer - read-only HTTP/JSON view of a TeamList for venue
+ * screens and phones, on the JDK's built-in com.sun.net.httpserver.
+ *
+ *   GET /leaderboard?category=Cybersecurity&offset=0&limit=100
+ *       ranked teams (all categories if category is left out); limit defaults to 100
+ *   GET /teams/{id}    one team with its category rank and overall rank
+ *   GET /stats         team count, average/min/max overall score, score
+ *                      frequency, teams per category, highest-scoring team
+ *   GET /events        Server-Sent Events stream of rank changes (see LeaderboardEvents)
+ *
+ * Response bodies are serialized once per TeamList version (see
+ * ResponseCache), so while nothing changes a request costs a map lookup and
+ * never takes the list's lock. Requests run on virtual threads when the JVM
+ * offers them, otherwise on a cached thread pool.
+ *
+ * The JDK server writes headers and body separately, so without TCP_NODELAY
+ * each keep-alive response waits ~40 ms on the client's delayed ACK. That is
+ * the JVM-wide system property sun.net.httpserver.nodelay, read once when the
+ * first server is created; this class leaves it to the caller (main sets it).
+ */
+public final class LeaderboardServer {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 10_000;
+    private static final int BACKLOG = 1024; // screens reconnecting together after a network blip
+
+    private final TeamList teams;
+    private final HttpServer http;
+    private final ExecutorService executor;
+    private final ResponseCache cache;
+    private final LeaderboardEvents events;
+
+    public LeaderboardServer(TeamList teams, int port) throws IOException {
+        this.teams = teams;
+        this.cache = new ResponseCache(teams::getVersion);
+        this.http = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        this.executor = newRequestExecutor();
+        this.events = new LeaderboardEvents(teams, executor);
+        http.setExecutor(executor);
+        http.createContext("/leaderboard", ex -> respond(ex, this::leaderboard));
+        http.createContext("/teams/", ex -> respond(ex, this::team));
+        http.createContext("/stats", ex -> respond(ex, q -> stats()));
+        http.createContext("/events", this::subscribe);
+    }
+
+    public void start() {
+        events.start();
+        http.start();
+    }
+
+    /** Closes the event streams, gives running requests up to a second, and shuts the executor down. */
+    public void stop() {
+        events.stop();
+        http.stop(1);
+        executor.shutdown();
+    }
+
+    /** The port actually bound (useful when constructed with port 0). */
+    public int getPort() { return http.getAddress().getPort(); }
+
+    /**
+     * One virtual thread per request if this JVM has them (Java 21, or 19/20
+     * with --enable-preview); looked up by reflection so the project still
+     * builds for Java 19 without preview features. Otherwise a cached pool.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "leaderboard-http");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    // ----- Request handling -----
+
+    /** Thrown by a handler for a 4xx answer. */
+    static final class HttpError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    interface Handler {
+        String handle(Request request);
+    }
+
+    // the parts of a request the handlers look at
+    static final class Request {
+        final String path;
+        final Map<String, String> query;
+
+        Request(URI uri) {
+            path = uri.getPath();
+            query = parseQuery(uri.getRawQuery());
+        }
+
+        int intParam(String name, int fallback) {
+            String v = query.get(name);
+            if (v == null || v.isEmpty()) return fallback;
+            try {
+                return Integer.parseInt(v);
+            } catch (NumberFormatException e) {
+                throw new HttpError(400, "Parameter " + name + " must be a number");
+            }
+        }
+    }
+
+    private void respond(HttpExchange ex, Handler handler) throws IOException {
+        int status = 200;
+        byte[] body;
+        try {
+            if (!"GET".equals(ex.getRequestMethod())) throw new HttpError(405, "Only GET is supported");
+            URI uri = ex.getRequestURI();
+            body = cache.get(uri.getPath() + '?' + (uri.getRawQuery() == null ? "" : uri.getRawQuery()),
+                    () -> handler.handle(new Request(uri)).getBytes(StandardCharsets.UTF_8));
+        } catch (HttpError e) {
+            status = e.status;
+            body = Json.error(e.getMessage()).getBytes(StandardCharsets.UTF_8);
+        } catch (RuntimeException e) {
+            status = 500;
+            body = Json.error("Internal error").getBytes(StandardCharsets.UTF_8);
+        }
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.getResponseHeaders().set("Cache-Control", "no-cache");
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void subscribe(HttpExchange ex) throws IOException {
+        if ("GET".equals(ex.getRequestMethod())) {
+            events.subscribe(ex);
+        } else {
+            respond(ex, r -> { throw new HttpError(405, "Only GET is supported"); });
+        }
+    }
+
+    private String leaderboard(Request request) {
+        String category = request.query.get("category");
+        if (category != null && (category.isEmpty() || category.equalsIgnoreCase("All"))) category = null;
+        int offset = Math.max(0, request.intParam("offset", 0));
+        int limit = Math.max(0, Math.min(MAX_LIMIT, request.intParam("limit", DEFAULT_LIMIT)));
+
+        ArrayList<Team> page = teams.page(category, offset, limit);
+        StringBuilder sb = new StringBuilder(64 + page.size() * 160);
+        Json.string(sb.append("{\"category\":"), category);
+        sb.append(",\"total\":").append(teams.getLeaderboardSize(category));
+        sb.append(",\"offset\":").append(offset).append(",\"teams\":[");
+        for (int i = 0; i < page.size(); i++) {
+            if (i > 0) sb.append(',');
+            Json.team(sb, page.get(i), offset + i + 1);
+        }
+        return sb.append("]}").toString();
+    }
+
+    private String team(Request request) {
+        String idText = request.path.substring("/teams/".length());
+        int id;
+        try {
+            id = Integer.parseInt(idText);
+        } catch (NumberFormatException e) {
+            throw new HttpError(400, "Team ID must be a number");
+        }
+        Team t = teams.getTeamByID(id);
+        if (t == null) throw new HttpError(404, "No team with ID " + id);
+        return Json.team(new StringBuilder(256), t, teams.rankOf(id), teams.overallRankOf(id)).toString();
+    }
+
+    private String stats() {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("{\"teams\":").append(teams.getTeamCount());
+        Json.number(sb.append(",\"average\":"), teams.getAverageScore());
+        Json.number(sb.append(",\"min\":"), teams.getMinOverallScore());
+        Json.number(sb.append(",\"max\":"), teams.getMaxOverallScore());
+        sb.append(",\"scoreFrequency\":[");
+        int[] frequency = teams.getScoreFrequency();
+        for (int i = 0; i < frequency.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(frequency[i]);
+        }
+        sb.append("],\"categories\":{");
+        boolean first = true;
+        for (Map.Entry<String, Integer> e : teams.getCategoryCounts().entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            Json.string(sb, e.getKey()).append(':').append(e.getValue());
+        }
+        sb.append("},\"highest\":");
+        Team top = teams.getHighestScoreTeam();
+        if (top == null) sb.append("null");
+        else Json.team(sb, top, 1);
+        return sb.append('}').toString();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        HashMap<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            query.putIfAbsent(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+}
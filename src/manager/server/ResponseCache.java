@@ -0,0 +1,50 @@
+package manager.server;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * ResponseCache - serialized response bodies keyed by request, valid for one
+ * TeamList version. A request for an unchanged list is a map lookup; the
+ * first request after a change starts a new generation and rebuilds.
+ */
+final class ResponseCache {
+
+    private static final int MAX_ENTRIES = 4096; // distinct queries kept per version
+
+    private static final class Generation {
+        final long version;
+        final ConcurrentHashMap<String, byte[]> bodies = new ConcurrentHashMap<>();
+
+        Generation(long version) { this.version = version; }
+    }
+
+    private final LongSupplier version;
+    private volatile Generation current;
+
+    ResponseCache(LongSupplier version) {
+        this.version = version;
+        this.current = new Generation(version.getAsLong());
+    }
+
+    /**
+     * The cached body for key, or build's result. A body built while the data
+     * changed underneath it is returned but not cached, so a cached body
+     * always matches the version it is filed under.
+     */
+    byte[] get(String key, Supplier<byte[]> build) {
+        long before = version.getAsLong();
+        Generation gen = current;
+        if (gen.version != before) {
+            gen = new Generation(before);
+            current = gen; // racing threads may each start one; the last wins, all are correct
+        }
+        byte[] body = gen.bodies.get(key);
+        if (body != null) return body;
+
+        body = build.get();
+        if (version.getAsLong() == before && gen.bodies.size() < MAX_ENTRIES) gen.bodies.putIfAbsent(key, body);
+        return body;
+    }
+}
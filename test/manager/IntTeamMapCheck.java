@@ -0,0 +1,104 @@
+// File: IntTeamMapCheck.java (for isolated testing only)
+package manager;
+
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * Checks IntTeamMap deletes (backward shift inside a probe chain) and that
+ * TeamList.removeTeam keeps list order and the ID index right when IDs repeat.
+ * Exits with status 1 on the first failure.
+ */
+public class IntTeamMapCheck {
+
+    public static void main(String[] args) {
+        System.out.println("--- IntTeamMap / removeTeam Checks ---");
+
+        // 1. Six keys sharing one home slot in a 16-slot table, so removing from
+        //    the middle of the chain must shift the rest back.
+        IntTeamMap map = new IntTeamMap();
+        int[] keys = new int[6];
+        Team[] chain = new Team[keys.length];
+        for (int key = 1, n = 0; n < keys.length; key++) {
+            if (IntTeamMap.slot(key, 15) != IntTeamMap.slot(1, 15)) continue;
+            keys[n] = key;
+            chain[n] = team(key, "C");
+            map.put(key, chain[n++]);
+        }
+        map.remove(keys[2]);
+        check("removed key is gone", map.get(keys[2]) == null);
+        for (int i = 0; i < keys.length; i++) {
+            if (i != 2) check("chain key " + keys[i] + " still found", map.get(keys[i]) == chain[i]);
+        }
+        check("size after remove", map.size() == 5);
+        check("removing a missing key returns null", map.remove(999) == null);
+
+        // 2. Random puts/removes against HashMap
+        IntTeamMap m = new IntTeamMap();
+        HashMap<Integer, Team> ref = new HashMap<>();
+        Random rnd = new Random(1);
+        boolean same = true;
+        for (int i = 0; i < 200_000 && same; i++) {
+            int key = rnd.nextInt(3000) - 100;
+            int op = rnd.nextInt(3);
+            if (op == 0) {
+                Team t = team(key, "R");
+                same = m.put(key, t) == ref.put(key, t);
+            } else if (op == 1) {
+                same = m.remove(key) == ref.remove(key);
+            } else {
+                same = m.get(key) == ref.get(key);
+            }
+            same &= m.size() == ref.size();
+        }
+        check("random operations match HashMap", same);
+
+        // 3. removeTeam with a repeated ID promotes the next team in list order
+        TeamList list = new TeamList();
+        Team a = team(1, "A"), b = team(2, "B"), c = team(1, "C"), d = team(1, "D");
+        list.addTeam(a);
+        list.addTeam(b);
+        list.addTeam(c);
+        list.addTeam(d);
+        list.removeTeam(a);
+        check("next duplicate promoted", list.getTeamByID(1) == c);
+        list.removeTeam(d);
+        check("shadowed duplicate removed", list.getTeamByID(1) == c);
+        list.removeTeam(c);
+        check("ID gone with its last team", list.getTeamByID(1) == null);
+        check("other team kept", list.getTeamByID(2) == b && list.getTeamCount() == 1);
+
+        // 4. Removing from the middle keeps order, and later removes still find their team
+        TeamList order = new TeamList();
+        Team[] teams = new Team[5];
+        for (int i = 0; i < teams.length; i++) order.addTeam(teams[i] = team(10 + i, "T" + i));
+        order.removeTeam(teams[1]);
+        order.removeTeam(teams[3]);
+        order.removeTeam(teams[3]); // second remove is ignored
+        TeamView view = order.getAllTeams();
+        check("order kept after removes", view.size() == 3
+                && view.get(0) == teams[0] && view.get(1) == teams[2] && view.get(2) == teams[4]);
+        order.removeTeam(teams[4]);
+        check("last team removed", order.getTeamCount() == 2 && order.getTeamByID(14) == null);
+        check("team from another list ignored", removeForeign(order, teams[0]));
+
+        System.out.println("All checks passed.");
+    }
+
+    private static boolean removeForeign(TeamList list, Team member) {
+        TeamList other = new TeamList();
+        Team stranger = team(10, "S");
+        other.addTeam(stranger);
+        list.removeTeam(stranger);
+        return list.getTeamByID(10) == member && list.getTeamCount() == 2;
+    }
+
+    private static Team team(int id, String name) {
+        return new GeneralTeam(id, name, "UTM", "Web Development", new int[]{3, 3, 3, 3});
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
@@ -0,0 +1,104 @@
+// File: JournalCheck.java (for isolated testing only)
+package manager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks the change log: one record per edit (Team.update included), replay
+ * onto the saved CSV, a torn last record, and truncation when the CSV is saved.
+ * Exits with status 1 on the first failure.
+ */
+public class JournalCheck {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- Change Log Checks ---");
+
+        Path dir = Files.createTempDirectory("journal-check");
+        String csv = dir.resolve("teams.csv").toString();
+        Path log = TeamJournal.logPathFor(csv);
+        try {
+            TeamList seed = new TeamList();
+            seed.addTeam(new CyberTeam(1, "Cyber Titans", "UTM", new int[]{5, 4, 3, 5}));
+            seed.addTeam(new AITeam(2, "AI Innovators", "Monash", new int[]{2, 5, 4, 1}));
+            seed.addTeam(new GeneralTeam(3, "Web Wizards", "UM", "Web Development", new int[]{3, 3, 3, 3}));
+            seed.saveToCSV(csv);
+
+            // 1. Edits go to the log, one record each
+            TeamList list = new TeamList();
+            list.loadFromCSV(csv);
+            check("log opened cleanly", list.openJournal(csv).isEmpty());
+            list.getTeamByID(3).update("Web Wizards, Ltd", "UKM", "Cybersecurity", new int[]{1, 2, 3, 4});
+            list.getTeamByID(2).setScores(new int[]{5, 5, 5, 5});
+            list.removeTeam(list.getTeamByID(1));
+            list.addTeam(new GeneralTeam(4, "Data \"Dragons\"", "USM", "Data Science", new int[]{4, 4, 4, 4}));
+            list.syncJournal();
+            List<String> records = Files.readAllLines(log, StandardCharsets.UTF_8);
+            check("one record per change", records.size() == 4);
+            check("update is one U record", records.get(0).startsWith("U,3,\"Web Wizards, Ltd\",UKM,Cybersecurity,1,2,3,4"));
+            check("removal record", records.get(2).equals("R,1"));
+            list.closeJournal();
+
+            // 2. Replaying the log onto the saved CSV gives the edited list back
+            TeamList replayed = new TeamList();
+            replayed.loadFromCSV(csv);
+            check("replay without errors", replayed.openJournal(csv).isEmpty());
+            check("replayed list matches", sameTeams(list, replayed));
+            check("update replayed", replayed.getTeamByID(3).getTeamName().equals("Web Wizards, Ltd")
+                    && replayed.getTeamByID(3).getCategory().equals("Cybersecurity"));
+            check("removal replayed", replayed.getTeamByID(1) == null);
+            replayed.closeJournal();
+
+            // 3. A half-written last record is dropped, not reported
+            Files.write(log, "U,2,Half".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            TeamList torn = new TeamList();
+            torn.loadFromCSV(csv);
+            check("torn tail ignored", torn.openJournal(csv).isEmpty() && sameTeams(list, torn));
+
+            // 4. Saving over the journaled CSV empties the log
+            torn.saveToCSV(csv);
+            check("log truncated by save", Files.size(log) == 0);
+            torn.closeJournal();
+            TeamList reloaded = new TeamList();
+            reloaded.loadFromCSV(csv);
+            check("saved CSV holds the edits", sameTeams(list, reloaded));
+
+            // 5. A bad record is reported and the rest still replays
+            Files.write(log, "U,99,Ghost,UM,Web,1,1,1,1\nX,2,a,b,c,1,1,1,1\nU,2,AI Innovators,Monash,Artificial Intelligence,1,1,1,1\n"
+                    .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            ArrayList<String> errors = reloaded.openJournal(csv);
+            check("unknown team reported", errors.size() == 2 && errors.get(0).startsWith("Log line 1: Update for unknown team ID 99"));
+            check("unknown record type reported", errors.get(1).startsWith("Log line 2: Unknown record type 'X'"));
+            check("good record applied", reloaded.getTeamByID(2).getScore(0) == 1);
+            reloaded.closeJournal();
+        } finally {
+            Files.deleteIfExists(log);
+            Files.deleteIfExists(Path.of(csv));
+            Files.deleteIfExists(dir);
+        }
+
+        System.out.println("All checks passed.");
+    }
+
+    static boolean sameTeams(TeamList a, TeamList b) {
+        TeamView x = a.getAllTeams(), y = b.getAllTeams();
+        if (x.size() != y.size()) return false;
+        for (int i = 0; i < x.size(); i++) {
+            Team s = x.get(i), t = y.get(i);
+            if (s.getTeamID() != t.getTeamID() || !s.getTeamName().equals(t.getTeamName())
+                    || !s.getUniversity().equals(t.getUniversity()) || !s.getCategory().equals(t.getCategory())) return false;
+            for (int k = 0; k < 4; k++) if (s.getScore(k) != t.getScore(k)) return false;
+        }
+        return true;
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
@@ -0,0 +1,122 @@
+// File: JudgeSchedulerCheck.java (for isolated testing only)
+package manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks judge assignment: every team gets k distinct judges, none from its
+ * own university, loads stay even, a re-run or a repeated judge never gives
+ * a judge the same team twice, and short teams are reported.
+ * Exits with status 1 on the first failure.
+ */
+public class JudgeSchedulerCheck {
+
+    private static final String[] UNIVERSITIES = {"UM", "UTM", "UKM", "USM"};
+
+    public static void main(String[] args) {
+        System.out.println("--- JudgeScheduler Checks ---");
+
+        // 1. A plain run: k distinct judges per team, no conflicts, even loads
+        Random rnd = new Random(8);
+        List<Team> teams = teams(2_000, rnd);
+        List<Judge> judges = judges(40);
+        ArrayList<Team> shortOfJudges = JudgeScheduler.assign(teams, judges, 3);
+        check("every team covered", shortOfJudges.isEmpty());
+        check("three distinct judges per team", judgesPerTeam(teams, judges, 3));
+        check("no judge from the team's university", noConflicts(judges));
+        check("loads within two", spread(judges) <= 2); // greedy: close to even, not always optimal
+
+        // 2. Running again with the same k changes nothing; a higher k only adds the difference
+        int before = totalLoad(judges);
+        check("re-run adds nothing", JudgeScheduler.assign(teams, judges, 3).isEmpty() && totalLoad(judges) == before);
+        JudgeScheduler.assign(teams, judges, 4);
+        check("raising k adds one judge per team", totalLoad(judges) == before + teams.size()
+                && judgesPerTeam(teams, judges, 4) && noConflicts(judges));
+
+        // 3. New teams after a run still even out the loads
+        List<Team> more = teams(400, rnd);
+        JudgeScheduler.assign(more, judges, 4);
+        check("later teams keep loads even", spread(judges) <= 2 && judgesPerTeam(more, judges, 4));
+
+        // 4. A judge or team listed twice is used once
+        Judge dup = new Judge(500, new Name("Dup", "Judge"), "UM");
+        Team web = new GeneralTeam(900, "Web", "UTM", "Web Development", new int[4]);
+        ArrayList<Team> twice = JudgeScheduler.assign(List.of(web, web), List.of(dup, dup), 2);
+        check("repeated judge counts once", dup.getLoad() == 1);
+        check("team short of judges reported once", twice.size() == 1 && twice.get(0) == web);
+
+        // 5. Conflicts and no judges at all
+        Judge local = new Judge(501, new Name("Local", "Judge"), "utm ");
+        check("only conflicting judges", JudgeScheduler.assign(List.of(web), List.of(local), 1).size() == 1
+                && local.getLoad() == 0);
+        check("no judges", JudgeScheduler.assign(teams, new ArrayList<>(), 1).size() == teams.size());
+        boolean refused = false;
+        try {
+            JudgeScheduler.assign(teams, judges, 0);
+        } catch (IllegalArgumentException expected) {
+            refused = true;
+        }
+        check("k of 0 refused", refused);
+
+        System.out.println("All checks passed.");
+    }
+
+    private static List<Team> teams(int n, Random rnd) {
+        ArrayList<Team> teams = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            teams.add(new GeneralTeam(i, "Team " + i, UNIVERSITIES[rnd.nextInt(UNIVERSITIES.length)],
+                    "Web Development", new int[4]));
+        }
+        return teams;
+    }
+
+    private static List<Judge> judges(int n) {
+        ArrayList<Judge> judges = new ArrayList<>();
+        for (int i = 0; i < n; i++) judges.add(new Judge(100 + i, new Name("Judge", "" + i), UNIVERSITIES[i % UNIVERSITIES.length]));
+        return judges;
+    }
+
+    // each team held by exactly k judges, each at most once
+    private static boolean judgesPerTeam(List<Team> teams, List<Judge> judges, int k) {
+        for (Team t : teams) {
+            int n = 0;
+            for (Judge j : judges) {
+                int times = 0;
+                for (Team held : j.getAssignedTeams()) if (held == t) times++;
+                if (times > 1) return false;
+                n += times;
+            }
+            if (n != k) return false;
+        }
+        return true;
+    }
+
+    private static boolean noConflicts(List<Judge> judges) {
+        for (Judge j : judges) {
+            for (Team t : j.getAssignedTeams()) if (t.getUniversity().equals(j.getUniversity())) return false;
+        }
+        return true;
+    }
+
+    private static int spread(List<Judge> judges) {
+        int min = Integer.MAX_VALUE, max = 0;
+        for (Judge j : judges) {
+            min = Math.min(min, j.getLoad());
+            max = Math.max(max, j.getLoad());
+        }
+        return max - min;
+    }
+
+    private static int totalLoad(List<Judge> judges) {
+        int n = 0;
+        for (Judge j : judges) n += j.getLoad();
+        return n;
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
@@ -0,0 +1,127 @@
+// File: LeaderboardIndexCheck.java (for isolated testing only)
+package manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks the leaderboard treap against a plain sorted list, with many equal
+ * scores and repeated team IDs: toList, get, rankOf, range and remove of an
+ * exact team among equal keys. Exits with status 1 on the first failure.
+ */
+public class LeaderboardIndexCheck {
+
+    public static void main(String[] args) {
+        System.out.println("--- LeaderboardIndex Checks ---");
+
+        // 1. Equal keys: same score and same ID, told apart only by identity
+        LeaderboardIndex index = new LeaderboardIndex();
+        Team a = team(7, 3), b = team(7, 3), c = team(7, 3), top = team(1, 5);
+        index.add(a);
+        index.add(b);
+        index.add(top);
+        index.add(c);
+        check("equal keys kept in insertion order", same(index.toList(), List.of(top, a, b, c)));
+        check("rank of each equal key", index.rankOf(a) == 1 && index.rankOf(b) == 2 && index.rankOf(c) == 3);
+        check("remove the middle one", index.remove(b) && same(index.toList(), List.of(top, a, c)));
+        check("removed team has no rank", index.rankOf(b) == -1);
+        check("removing twice fails", !index.remove(b) && index.size() == 3);
+
+        // 2. Random adds, removes and score edits against a sorted reference list
+        Random rnd = new Random(5);
+        LeaderboardIndex treap = new LeaderboardIndex();
+        ArrayList<Team> ref = new ArrayList<>();
+        ArrayList<Team> pool = new ArrayList<>();
+        boolean ok = true;
+        for (int step = 0; step < 20_000 && ok; step++) {
+            int op = rnd.nextInt(4);
+            if (op < 2 || ref.isEmpty()) { // add; few IDs and scores, so keys repeat a lot
+                Team t = team(rnd.nextInt(50), rnd.nextInt(6));
+                treap.add(t);
+                insert(ref, t);
+                pool.add(t);
+            } else if (op == 2) {         // remove
+                Team t = ref.get(rnd.nextInt(ref.size()));
+                ok = treap.remove(t);
+                removeExact(ref, t);
+            } else {                      // edit: remove, change the score, add back
+                Team t = ref.get(rnd.nextInt(ref.size()));
+                ok = treap.remove(t);
+                removeExact(ref, t);
+                t.setScores(scores(rnd.nextInt(6)));
+                treap.add(t);
+                insert(ref, t);
+            }
+            if (step % 97 == 0 && ok) ok = matches(treap, ref, rnd);
+        }
+        check("random operations match sorted list", ok && matches(treap, ref, rnd));
+        check("teams not in the index have no rank", notIndexed(treap, ref, pool));
+
+        // 3. build() from a sorted list gives the same order as adding one by one
+        LeaderboardIndex built = LeaderboardIndex.build(ref);
+        check("build matches", matches(built, ref, rnd));
+        Team mid = ref.get(ref.size() / 2);
+        check("remove after build", built.remove(mid) && built.size() == ref.size() - 1);
+
+        // 4. range() edges
+        check("range past the end is empty", treap.range(ref.size(), 10).isEmpty());
+        check("range clipped at the end", treap.range(ref.size() - 2, 10).size() == 2);
+        check("negative offset starts at 0", same(treap.range(-5, 3), ref.subList(0, 3)));
+        check("get out of range", treap.get(-1) == null && treap.get(ref.size()) == null);
+
+        System.out.println("All checks passed.");
+    }
+
+    private static boolean matches(LeaderboardIndex treap, List<Team> ref, Random rnd) {
+        if (treap.size() != ref.size() || !same(treap.toList(), ref)) return false;
+        for (int k = 0; k < 20 && !ref.isEmpty(); k++) {
+            int i = rnd.nextInt(ref.size());
+            if (treap.get(i) != ref.get(i) || treap.rankOf(ref.get(i)) != i) return false;
+            int len = rnd.nextInt(10);
+            if (!same(treap.range(i, len), ref.subList(i, Math.min(ref.size(), i + len)))) return false;
+        }
+        return true;
+    }
+
+    private static boolean notIndexed(LeaderboardIndex treap, List<Team> ref, List<Team> pool) {
+        for (Team t : pool) {
+            boolean in = false;
+            for (Team r : ref) in |= r == t;
+            if (!in && treap.rankOf(t) != -1) return false;
+        }
+        return true;
+    }
+
+    // equal keys go after the ones already there, as in the treap
+    private static void insert(List<Team> ref, Team t) {
+        int i = 0;
+        while (i < ref.size() && LeaderboardIndex.ORDER.compare(ref.get(i), t) <= 0) i++;
+        ref.add(i, t);
+    }
+
+    private static void removeExact(List<Team> ref, Team t) {
+        for (int i = 0; i < ref.size(); i++) {
+            if (ref.get(i) == t) { ref.remove(i); return; }
+        }
+    }
+
+    private static boolean same(List<Team> x, List<Team> y) {
+        if (x.size() != y.size()) return false;
+        for (int i = 0; i < x.size(); i++) if (x.get(i) != y.get(i)) return false;
+        return true;
+    }
+
+    private static Team team(int id, int score) {
+        return new GeneralTeam(id, "Team " + id, "UTM", "Web Development", scores(score));
+    }
+
+    private static int[] scores(int score) {
+        return new int[]{score, score, score, score};
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
@@ -0,0 +1,89 @@
+// File: ParallelLoadCheck.java (for isolated testing only)
+package manager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Checks that loadFromCSVParallel and loadFromCSVMapped load a file exactly
+ * like loadFromCSV (repeated IDs rejected, bad rows, line numbers), that a load tells
+ * listeners once, and that a bad thread count leaves the list alone.
+ * Exits with status 1 on the first failure.
+ */
+public class ParallelLoadCheck {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- Parallel / Mapped Load Checks ---");
+
+        StringBuilder sb = new StringBuilder("teamID,teamName,university,category,score1,score2,score3,score4\n");
+        for (int i = 1; i <= 60_000; i++) {
+            int id = i % 1000 == 0 ? 5 : i; // every 1000th row repeats ID 5
+            if (i % 7777 == 0) sb.append(id).append(",Broken,UTM\n");
+            else sb.append(id).append(",Team ").append(i).append(",UTM,")
+                    .append(i % 2 == 0 ? "Cybersecurity" : "Web Development").append(",1,2,3,4\n");
+        }
+        Path csv = Files.createTempFile("parallel-check", ".csv");
+        try {
+            Files.write(csv, sb.toString().getBytes(StandardCharsets.UTF_8));
+            String file = csv.toString();
+
+            TeamList plain = new TeamList();
+            ArrayList<String> plainErrors = plain.loadFromCSV(file);
+
+            TeamList parallel = new TeamList();
+            int[] events = new int[1];
+            parallel.addRankListener(new TeamList.RankListener() {
+                @Override public void rankChanged(RankChange change) { }
+                @Override public void rosterChanged(long version) { events[0]++; }
+            });
+            ArrayList<String> parallelErrors = parallel.loadFromCSVParallel(file, 4);
+
+            TeamList mapped = new TeamList();
+            ArrayList<String> mappedErrors = mapped.loadFromCSVMapped(file);
+
+            // 60 rows repeat ID 5 (rows 1000, 2000, ...; file line = row + 1), 7 rows are short
+            check("bad rows and repeated IDs reported", plainErrors.size() == 7 + 60
+                    && plainErrors.contains("Line 7778: Missing fields (expected 8, found 3)"));
+            check("duplicate ID reported with its file line", plainErrors.get(0).equals("Line 1001: Duplicate team ID 5."));
+            check("parallel errors match", parallelErrors.equals(plainErrors));
+            check("mapped errors match", mappedErrors.equals(plainErrors));
+            check("repeated IDs skipped", plain.getTeamCount() == 60_000 - 7 - 60);
+            check("parallel keeps the same teams", sameTeams(plain, parallel));
+            check("mapped keeps the same teams", sameTeams(plain, mapped));
+            check("first team with an ID wins lookups", parallel.getTeamByID(5).getTeamName().equals("Team 5"));
+            check("one rosterChanged per load", events[0] == 1);
+
+            boolean rejected = false;
+            try {
+                parallel.loadFromCSVParallel(file, 0);
+            } catch (IllegalArgumentException expected) {
+                rejected = true;
+            }
+            check("zero threads rejected", rejected);
+            check("list untouched after rejection", parallel.getTeamCount() == plain.getTeamCount());
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+
+        System.out.println("All checks passed.");
+    }
+
+    private static boolean sameTeams(TeamList a, TeamList b) {
+        TeamView x = a.getAllTeams(), y = b.getAllTeams();
+        if (x.size() != y.size()) return false;
+        for (int i = 0; i < x.size(); i++) {
+            Team s = x.get(i), t = y.get(i);
+            if (s.getTeamID() != t.getTeamID() || !s.getTeamName().equals(t.getTeamName())
+                    || !s.getCategory().equals(t.getCategory())) return false;
+        }
+        return true;
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
@@ -0,0 +1,97 @@
+// File: ScoreLedgerCheck.java (for isolated testing only)
+package manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Checks the score ledger: a judge submitting again replaces their entry,
+ * exact averages match a fresh sum over every entry, the team gets them
+ * rounded half up, and its TeamList leaderboard follows.
+ * Exits with status 1 on the first failure.
+ */
+public class ScoreLedgerCheck {
+
+    public static void main(String[] args) {
+        System.out.println("--- ScoreLedger Checks ---");
+
+        Judge ann = new Judge(1, new Name("Ann", "Lee"));
+        Judge bob = new Judge(2, new Name("Bob", "Tan"));
+        Judge cat = new Judge(3, new Name("Cat", "Ng"));
+
+        // 1. Averages, rounding and replacement for one team
+        TeamList list = new TeamList();
+        Team web = new GeneralTeam(10, "Web Wizards", "UTM", "Web Development", new int[]{0, 0, 0, 0});
+        Team other = new GeneralTeam(11, "Other", "UM", "Web Development", new int[]{3, 3, 3, 3});
+        list.addTeam(web);
+        list.addTeam(other);
+        ScoreLedger ledger = new ScoreLedger();
+        check("unscored team", ledger.getAverageScores(10) == null && ledger.getJudgeCount(10) == 0);
+
+        ledger.submit(new Score(ann, web, 4, 1, 5, 2));
+        ledger.submit(new Score(bob, web, 5, 2, 4, 2));
+        check("two judges", ledger.getJudgeCount(10) == 2 && ledger.getEntryCount() == 2);
+        check("exact averages", Arrays.equals(ledger.getAverageScores(10), new double[]{4.5, 1.5, 4.5, 2.0}));
+        check("team gets averages rounded half up", Arrays.equals(web.getScoreArray(), new int[]{5, 2, 5, 2}));
+        check("leaderboard follows", list.getLeaderboard().get(0) == web);
+
+        ledger.submit(new Score(ann, web, 0, 1, 0, 2)); // Ann changes her mind
+        check("resubmission replaces", ledger.getJudgeCount(10) == 2 && ledger.getEntryCount() == 2
+                && ledger.getScore(1, 10).getCreativity() == 0);
+        check("averages after replacing", Arrays.equals(ledger.getAverageScores(10), new double[]{2.5, 1.5, 2.0, 2.0})
+                && Arrays.equals(web.getScoreArray(), new int[]{3, 2, 2, 2}));
+        check("leaderboard follows the replacement", list.getLeaderboard().get(0) == other);
+
+        ledger.submit(new Score(cat, web, 0, 0, 0, 0));
+        check("getScores lists every judge once", ledger.getScores(10).size() == 3);
+        check("unknown entry", ledger.getScore(3, 11) == null && ledger.getScores(11).isEmpty());
+
+        // 2. Negative scores round half up too (-1.5 -> -1)
+        Team neg = new GeneralTeam(12, "Neg", "UM", "Web Development", new int[]{0, 0, 0, 0});
+        ledger.submit(new Score(ann, neg, -1, -2, 0, 0));
+        ledger.submit(new Score(bob, neg, -2, -2, 1, 0));
+        check("negative averages", Arrays.equals(neg.getScoreArray(), new int[]{-1, -2, 1, 0}));
+
+        // 3. Random submissions and resubmissions against sums over the latest entry per judge
+        Random rnd = new Random(21);
+        Judge[] judges = new Judge[12];
+        for (int j = 0; j < judges.length; j++) judges[j] = new Judge(100 + j, new Name("Judge", "" + j));
+        ArrayList<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 300; i++) teams.add(new GeneralTeam(1000 + i, "T" + i, "UM", "Web Development", new int[4]));
+        int[][][] latest = new int[teams.size()][judges.length][];
+        ScoreLedger random = new ScoreLedger();
+        for (int k = 0; k < 20_000; k++) {
+            int i = rnd.nextInt(teams.size()), j = rnd.nextInt(judges.length);
+            int[] s = {rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6)};
+            random.submit(new Score(judges[j], teams.get(i), s[0], s[1], s[2], s[3]));
+            latest[i][j] = s;
+        }
+        boolean ok = true;
+        int entries = 0;
+        for (int i = 0; i < teams.size() && ok; i++) {
+            long[] sum = new long[4];
+            int n = 0;
+            for (int[] s : latest[i]) {
+                if (s == null) continue;
+                n++;
+                for (int c = 0; c < 4; c++) sum[c] += s[c];
+            }
+            entries += n;
+            double[] exact = random.getAverageScores(teams.get(i).getTeamID());
+            for (int c = 0; c < 4 && ok; c++) {
+                ok = exact[c] == (double) sum[c] / n
+                        && teams.get(i).getScore(c) == (int) Math.floorDiv(2 * sum[c] + n, 2L * n);
+            }
+            ok &= random.getJudgeCount(teams.get(i).getTeamID()) == n;
+        }
+        check("random submissions match a fresh sum", ok && random.getEntryCount() == entries);
+
+        System.out.println("All checks passed.");
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
@@ -0,0 +1,125 @@
+// File: SnapshotCheck.java (for isolated testing only)
+package manager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Checks the binary snapshot: a round trip keeps every team, corrupt headers
+ * are reported instead of overflowing, and startup from a snapshot only
+ * replays the change-log records written after it. Concurrent saves leave
+ * whole files and no temp files behind.
+ * Exits with status 1 on the first failure.
+ */
+public class SnapshotCheck {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.out.println("--- Snapshot Checks ---");
+
+        Path dir = Files.createTempDirectory("snapshot-check");
+        Path bin = dir.resolve("teams.bin");
+        String csv = dir.resolve("teams.csv").toString();
+        Path log = TeamJournal.logPathFor(csv);
+        try {
+            // 1. Round trip, including non-ASCII text, quotes and negative scores
+            TeamList list = new TeamList();
+            list.addTeam(new CyberTeam(1, "Cyber Titans", "UTM", new int[]{5, 4, 3, 5}));
+            list.addTeam(new AITeam(2, "Équipe \"Zéro\"", "Monash", new int[]{2, 5, 4, 1}));
+            list.addTeam(new GeneralTeam(3, "Web Wizards", "UTM", "Web Development", new int[]{-1, 0, 127, -128}));
+            list.addTeam(new GeneralTeam(3, "Same ID", "UM", "Data Science", new int[]{1, 1, 1, 1}));
+            list.saveSnapshot(bin.toString());
+            TeamList loaded = new TeamList();
+            check("snapshot loads cleanly", loaded.loadSnapshot(bin.toString()).isEmpty());
+            check("round trip keeps every team", JournalCheck.sameTeams(list, loaded));
+            check("team kinds kept", loaded.getTeamByID(1) instanceof CyberTeam && loaded.getTeamByID(2) instanceof AITeam);
+
+            // 2. A score that doesn't fit in a byte is refused, keeping the old file
+            list.getTeamByID(1).setScores(new int[]{500, 0, 0, 0});
+            list.saveSnapshot(bin.toString());
+            TeamList same = new TeamList();
+            check("oversized score refused", same.loadSnapshot(bin.toString()).isEmpty() && JournalCheck.sameTeams(loaded, same));
+
+            // 3. A team count whose size overflows an int is reported as corrupt
+            byte[] bytes = Files.readAllBytes(bin);
+            ByteBuffer.wrap(bytes).putInt(8, 0x0CCCCCCD); // count * 20 wraps to a small positive int
+            Files.write(bin, bytes);
+            ArrayList<String> errors = new TeamList().loadSnapshot(bin.toString());
+            check("overflowing count rejected", errors.size() == 1 && errors.get(0).contains("corrupt snapshot"));
+            Files.write(bin, new byte[]{'H', 'M', 'S', 'B'});
+            check("short file rejected", new TeamList().loadSnapshot(bin.toString()).get(0).contains("Not a team snapshot"));
+
+            // 4. Startup from a snapshot replays only the log records written after it
+            TeamList running = new TeamList();
+            for (int i = 1; i <= 5; i++) {
+                running.addTeam(new GeneralTeam(i, "Team " + i, "UM", "Web Development", new int[]{1, 1, 1, 1}));
+            }
+            running.saveToCSV(csv);
+            running.loadFromCSV(csv);
+            running.openJournal(csv);
+            running.getTeamByID(1).setScores(new int[]{2, 2, 2, 2});
+            running.getTeamByID(2).setScores(new int[]{3, 3, 3, 3});
+            running.saveSnapshot(bin.toString());   // includes the two edits above
+            running.getTeamByID(3).setScores(new int[]{4, 4, 4, 4});
+            running.closeJournal();
+
+            TeamList restarted = new TeamList();
+            check("restart snapshot loads", restarted.loadSnapshot(bin.toString()).isEmpty());
+            int[] replayed = new int[1];
+            restarted.addRankListener(new TeamList.RankListener() {
+                @Override public void rankChanged(RankChange change) { replayed[0]++; }
+                @Override public void rosterChanged(long version) { }
+            });
+            check("log replays cleanly", restarted.openJournal(csv).isEmpty());
+            check("only the later record replayed", replayed[0] == 1);
+            check("restart matches running list", JournalCheck.sameTeams(running, restarted));
+            restarted.closeJournal();
+
+            // 5. Once the CSV is saved the log is compacted; a stale count must not skip new records
+            TeamList compacted = new TeamList();
+            compacted.loadFromCSV(csv);
+            compacted.openJournal(csv);
+            compacted.saveToCSV(csv);              // empties the log
+            compacted.getTeamByID(4).setScores(new int[]{5, 5, 5, 5});
+            compacted.closeJournal();
+            TeamList stale = new TeamList();
+            stale.loadSnapshot(bin.toString());     // says 2 records, the log now has 1
+            stale.openJournal(csv);
+            check("short log replayed in full", stale.getTeamByID(4).getScore(0) == 5);
+            stale.closeJournal();
+
+            // 6. Saves from several threads at once: each file stays whole, no temp files left behind
+            Thread[] savers = new Thread[4];
+            for (int t = 0; t < savers.length; t++) {
+                savers[t] = new Thread(() -> {
+                    for (int k = 0; k < 25; k++) {
+                        running.saveToCSV(csv);
+                        running.saveSnapshot(bin.toString());
+                    }
+                });
+                savers[t].start();
+            }
+            for (Thread t : savers) t.join();
+            TeamList fromCsv = new TeamList(), fromBin = new TeamList();
+            check("CSV whole after concurrent saves", fromCsv.loadFromCSV(csv).isEmpty() && JournalCheck.sameTeams(running, fromCsv));
+            check("snapshot whole after concurrent saves", fromBin.loadSnapshot(bin.toString()).isEmpty() && JournalCheck.sameTeams(running, fromBin));
+            try (var files = Files.list(dir)) {
+                check("no temp files left", files.noneMatch(f -> f.toString().endsWith(".tmp")));
+            }
+        } finally {
+            Files.deleteIfExists(log);
+            Files.deleteIfExists(Path.of(csv));
+            Files.deleteIfExists(bin);
+            Files.deleteIfExists(dir);
+        }
+
+        System.out.println("All checks passed.");
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
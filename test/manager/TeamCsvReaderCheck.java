@@ -0,0 +1,106 @@
+// File: TeamCsvReaderCheck.java (for isolated testing only)
+package manager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+/**
+ * Checks the CSV tokenizer on quoting edge cases, line numbering and header
+ * detection. Exits with status 1 on the first failure.
+ */
+public class TeamCsvReaderCheck {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("--- TeamCsvReader Checks ---");
+
+        // 1. Quoting: commas, "" escapes, spaces around quotes, text after the closing quote
+        TeamCsvReader csv = reader("1,\"Smith, Jones\",\"say \"\"hi\"\"\",  \"pad\"  , x \"q\"z,\"\"\n");
+        check("quoted record read", csv.next());
+        check("field count", csv.fieldCount() == 6);
+        check("comma inside quotes", csv.textField(1).equals("Smith, Jones"));
+        check("doubled quotes unescaped", csv.textField(2).equals("say \"hi\""));
+        check("spaces around quoted field dropped", csv.textField(3).equals("pad"));
+        check("quote inside unquoted field kept", csv.textField(4).equals("x \"q\"z"));
+        check("empty quoted field", csv.textField(5).isEmpty());
+        check("no more records", !csv.next());
+
+        // 2. A line break inside quotes belongs to the field; lines are counted physically
+        csv = reader("1,\"two\nlines\",c\r\n2,b,c\r\n\n3,b,c");
+        check("multi-line record", csv.next() && csv.line() == 1 && csv.textField(1).equals("two\nlines"));
+        check("CRLF handled", csv.next() && csv.line() == 3 && csv.intField(0) == 2);
+        check("blank line", csv.next() && csv.isBlank());
+        check("last line without newline", csv.next() && csv.line() == 5 && csv.intField(0) == 3);
+        check("end of input", !csv.next());
+
+        // 3. Trailing empty fields don't count, like String.split(",")
+        csv = reader("a,b,,\n\"\",,\n");
+        check("trailing empties trimmed", csv.next() && csv.fieldCount() == 2);
+        check("quoted empty field counts", csv.next() && csv.fieldCount() == 1);
+
+        // 4. Unterminated quote at end of input
+        csv = reader("1,\"open,2,3\n4,5\n");
+        check("unterminated quote reported", csv.next() && csv.isUnterminated());
+
+        // 5. Integers parse like Integer.parseInt
+        csv = reader(" 42 ,-2147483648,2147483648,+7,,4x\n");
+        csv.next();
+        check("trimmed int", csv.intField(0) == 42);
+        check("MIN_VALUE", csv.intField(1) == Integer.MIN_VALUE);
+        check("overflow rejected", rejects(csv, 2));
+        check("plus sign", csv.intField(3) == 7);
+        check("empty rejected", rejects(csv, 4));
+        check("junk rejected", rejects(csv, 5));
+
+        // 6. Header rule: a line containing "team id", or saveToCSV's "teamID" first field
+        check("'Team ID' header", header("Team ID,Name,University,Category,S1,S2,S3,S4\n"));
+        check("'team id' anywhere on the line", header("No.,Team Id,Name\n"));
+        check("saveToCSV header", header("teamID,teamName,university,category,score1,score2,score3,score4\n"));
+        check("data row is not a header", !header("1,Alpha,UTM,Web Development,1,2,3,4\n"));
+
+        // 7. A record longer than the read buffer
+        StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) longName.append((char) ('a' + i % 26));
+        csv = reader("1,\"" + longName + "\",u\n2,b,c\n");
+        check("long record kept whole", csv.next() && csv.textField(1).contentEquals(longName));
+        check("record after long one", csv.next() && csv.intField(0) == 2 && csv.textField(2).equals("c"));
+
+        // 8. Through TeamList: quoted names load back as written
+        TeamList list = new TeamList();
+        ArrayList<String> errors = new ArrayList<>();
+        TeamList.readTeams(reader("Team ID,Name,Uni,Cat,1,2,3,4\n"
+                + "7,\"Bits, Bytes \"\"and\"\" Co\",UTM,Cybersecurity,5,4,3,5\n"
+                + "8,Short,UTM\n"), new TeamList.TeamSink() {
+            @Override public void team(int line, Team team) { list.addTeam(team); }
+            @Override public void error(int line, String message) { errors.add("Line " + line + ": " + message); }
+        });
+        check("quoted name loaded", list.getTeamByID(7) != null
+                && list.getTeamByID(7).getTeamName().equals("Bits, Bytes \"and\" Co"));
+        check("short row reported", errors.size() == 1 && errors.get(0).startsWith("Line 3: Missing fields"));
+
+        System.out.println("All checks passed.");
+    }
+
+    private static TeamCsvReader reader(String text) {
+        return new TeamCsvReader(new StringReader(text));
+    }
+
+    private static boolean header(String text) throws IOException {
+        TeamCsvReader csv = reader(text);
+        return csv.next() && csv.isHeader();
+    }
+
+    private static boolean rejects(TeamCsvReader csv, int field) {
+        try {
+            csv.intField(field);
+            return false;
+        } catch (NumberFormatException expected) {
+            return true;
+        }
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
@@ -0,0 +1,85 @@
+// File: TeamStatsCheck.java (for isolated testing only)
+package manager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks that the statistics TeamList keeps up to date through removals and
+ * edits equal stats collected afresh (sequentially, on a fork/join pool and
+ * from score columns). Exits with status 1 on the first failure.
+ */
+public class TeamStatsCheck {
+
+    private static final String[] CATEGORIES = {"Cybersecurity", "Artificial Intelligence", "Web Development"};
+
+    public static void main(String[] args) {
+        System.out.println("--- TeamStats Checks ---");
+
+        for (boolean columnar : new boolean[]{false, true}) {
+            String kind = columnar ? " (columns)" : "";
+            TeamList list = new TeamList(columnar);
+            Random rnd = new Random(9);
+            ArrayList<Team> teams = new ArrayList<>();
+            for (int i = 1; i <= 40_000; i++) {
+                Team t = TeamList.createTeam(i, "Team " + i, "UTM", CATEGORIES[i % 3], scores(rnd));
+                list.addTeam(t);
+                teams.add(t);
+            }
+            list.getAverageScore(); // start maintaining stats
+
+            // remove a quarter, edit another quarter, move some between categories
+            for (int i = 0; i < 10_000; i++) list.removeTeam(teams.remove(rnd.nextInt(teams.size())));
+            for (int i = 0; i < 10_000; i++) teams.get(rnd.nextInt(teams.size())).setScores(scores(rnd));
+            for (int i = 0; i < 500; i++) teams.get(rnd.nextInt(teams.size())).setCategory(CATEGORIES[rnd.nextInt(3)]);
+            // remove the current best and worst too
+            list.removeTeam(list.getHighestScoreTeam());
+            list.removeTeam(list.getLeaderboard().get(list.getTeamCount() - 1));
+
+            TeamStats fresh = list.computeStats(1);
+            TeamStats parallel = list.computeStats(4);
+            check("count after removals" + kind, fresh.getCount() == list.getTeamCount());
+            check("average matches a fresh pass" + kind, list.getAverageScore() == fresh.getAverageScore());
+            check("average matches a parallel pass" + kind, parallel.getAverageScore() == fresh.getAverageScore());
+            check("histogram matches" + kind, Arrays.equals(list.getScoreFrequency(), fresh.getScoreFrequency())
+                    && Arrays.equals(parallel.getScoreFrequency(), fresh.getScoreFrequency()));
+            check("category counts match" + kind, list.getCategoryCounts().equals(fresh.getCategoryCounts())
+                    && parallel.getCategoryCounts().equals(fresh.getCategoryCounts()));
+            check("category counts add up" + kind, sum(fresh.getCategoryCounts()) == fresh.getCount());
+            check("max and min match" + kind, list.getMaxOverallScore() == fresh.getMaxOverallScore()
+                    && list.getMinOverallScore() == fresh.getMinOverallScore());
+        }
+
+        // removing an extreme team from TeamStats itself forgets the extremes
+        TeamStats stats = new TeamStats();
+        Team low = new GeneralTeam(1, "Low", "UM", "Web Development", new int[]{1, 1, 1, 1});
+        Team high = new GeneralTeam(2, "High", "UM", "Web Development", new int[]{5, 5, 5, 5});
+        stats.add(low);
+        stats.add(high);
+        check("extremes tracked", stats.getHighestScoreTeam() == high && stats.getLowestScoreTeam() == low);
+        stats.remove(high);
+        check("extremes unknown after removing one", stats.getHighestScoreTeam() == null);
+        check("average after removal", stats.getAverageScore() == 1.0 && stats.getCount() == 1);
+        stats.remove(low);
+        check("empty after removing all", stats.getCount() == 0 && stats.getCategoryCounts().isEmpty());
+
+        System.out.println("All checks passed.");
+    }
+
+    private static int[] scores(Random rnd) {
+        return new int[]{rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6)};
+    }
+
+    private static int sum(Map<String, Integer> counts) {
+        int n = 0;
+        for (int c : counts.values()) n += c;
+        return n;
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}
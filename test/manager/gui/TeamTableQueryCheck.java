@@ -0,0 +1,80 @@
+// File: TeamTableQueryCheck.java (for isolated testing only)
+package manager.gui;
+
+import manager.GeneralTeam;
+import manager.Team;
+import manager.TeamList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks the Teams Table query: every sort orders exactly like the plain
+ * List.sort comparators it replaced (stable on ties), and an interrupted
+ * query stops with InterruptedException. Exits with status 1 on the first failure.
+ */
+public class TeamTableQueryCheck {
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("--- TeamTableQuery Checks ---");
+
+        String[] categories = {"Cybersecurity", "Artificial Intelligence", "web development", "Web Development"};
+        Random rnd = new Random(4);
+        ArrayList<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            int[] scores = {rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6), rnd.nextInt(6)};
+            String name = (rnd.nextBoolean() ? "team " : "Team ") + rnd.nextInt(5000);
+            teams.add(TeamList.createTeam(rnd.nextInt(20_000), name, "UTM", categories[rnd.nextInt(4)], scores));
+        }
+
+        check("sort by ID", same(TeamTableQuery.run(teams, "Team ID", "All"),
+                sorted(teams, Comparator.comparingInt(Team::getTeamID))));
+        check("sort by name", same(TeamTableQuery.run(teams, "Name", "All"),
+                sorted(teams, (a, b) -> a.getTeamName().compareToIgnoreCase(b.getTeamName()))));
+        check("sort by category", same(TeamTableQuery.run(teams, "Category", "All"),
+                sorted(teams, (a, b) -> a.getCategory().compareToIgnoreCase(b.getCategory()))));
+        check("sort by score", same(TeamTableQuery.run(teams, "Overall Score", "All"),
+                sorted(teams, (a, b) -> Double.compare(b.getOverallScore(), a.getOverallScore()))));
+
+        List<Team> web = TeamTableQuery.run(teams, "Overall Score", "WEB DEVELOPMENT");
+        ArrayList<Team> expected = new ArrayList<>();
+        for (Team t : teams) if (t.getCategory().equalsIgnoreCase("Web Development")) expected.add(t);
+        expected.sort((a, b) -> Double.compare(b.getOverallScore(), a.getOverallScore()));
+        check("filter ignores case", same(web, expected));
+        check("unknown sort keeps list order", same(TeamTableQuery.run(teams, "Shoe Size", "All"), teams));
+
+        Thread.currentThread().interrupt();
+        boolean stopped = false;
+        try {
+            TeamTableQuery.run(teams, "Overall Score", "All");
+        } catch (InterruptedException expectedStop) {
+            stopped = true;
+        }
+        check("interrupted query stops", stopped && !Thread.currentThread().isInterrupted());
+
+        List<Team> empty = TeamTableQuery.run(new ArrayList<>(), "Name", "All");
+        List<Team> one = TeamTableQuery.run(List.of(new GeneralTeam(1, "A", "UM", "Web", new int[]{1, 1, 1, 1})), "Overall Score", "All");
+        check("empty and single-row lists", empty.isEmpty() && one.size() == 1);
+
+        System.out.println("All checks passed.");
+    }
+
+    private static List<Team> sorted(List<Team> teams, Comparator<Team> order) {
+        ArrayList<Team> copy = new ArrayList<>(teams);
+        copy.sort(order);
+        return copy;
+    }
+
+    private static boolean same(List<Team> x, List<Team> y) {
+        if (x.size() != y.size()) return false;
+        for (int i = 0; i < x.size(); i++) if (x.get(i) != y.get(i)) return false;
+        return true;
+    }
+
+    private static void check(String what, boolean ok) {
+        System.out.println((ok ? "PASS  " : "FAIL  ") + what);
+        if (!ok) System.exit(1);
+    }
+}